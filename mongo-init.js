@@ -15,4 +15,7 @@ db.createCollection('products');
 // Create unique index on sku field
 db.products.createIndex({ "sku": 1 }, { unique: true });
 
+// Create compound index used by category browsing
+db.products.createIndex({ "categoryId": 1, "status": 1, "_id": 1 }, { name: "categoryId_status_id" });
+
 print('MongoDB initialization completed successfully!'); 
\ No newline at end of file
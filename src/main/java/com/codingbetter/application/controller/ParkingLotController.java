@@ -0,0 +1,29 @@
+package com.codingbetter.application.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.codingbetter.application.usecase.ReplayParkedMessagesUseCase;
+
+@RestController
+@RequestMapping("/api/parking-lot")
+public class ParkingLotController {
+
+    private final ReplayParkedMessagesUseCase replayParkedMessagesUseCase;
+
+    public ParkingLotController(ReplayParkedMessagesUseCase replayParkedMessagesUseCase) {
+        this.replayParkedMessagesUseCase = replayParkedMessagesUseCase;
+    }
+
+    @PostMapping("/{queue}/replay")
+    public ResponseEntity<Map<String, Integer>> replay(@PathVariable String queue, @RequestParam(defaultValue = "100") int limit) {
+        int replayed = replayParkedMessagesUseCase.replay(queue, limit);
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+}
@@ -12,12 +12,21 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.codingbetter.application.controller.request.CreateProductRequest;
+import com.codingbetter.application.controller.request.UpdatePriceRequest;
+import com.codingbetter.application.controller.response.BulkOperationResponse;
+import com.codingbetter.application.controller.response.CursorPageResponse;
 import com.codingbetter.application.controller.response.ProductResponse;
 import com.codingbetter.application.controller.response.PageResponse;
+import com.codingbetter.application.controller.response.ProductSummaryResponse;
+import com.codingbetter.application.controller.response.SliceResponse;
 import com.codingbetter.application.usecase.ActivateProductUseCase;
+import com.codingbetter.application.usecase.BulkCreateProductsUseCase;
+import com.codingbetter.application.usecase.BulkUpdatePricesUseCase;
 import com.codingbetter.application.usecase.CreateProductUseCase;
 import com.codingbetter.application.usecase.SearchProductsUseCase;
+import com.codingbetter.domain.catalog.product.model.ProductStatus;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,11 +34,15 @@ import java.util.UUID;
 public class ProductController {
 
     private final CreateProductUseCase createProductUseCase;
+    private final BulkCreateProductsUseCase bulkCreateProductsUseCase;
+    private final BulkUpdatePricesUseCase bulkUpdatePricesUseCase;
     private final ActivateProductUseCase activateProductUseCase;
     private final SearchProductsUseCase searchProductsUseCase;
 
-    public ProductController(CreateProductUseCase createProductUseCase, ActivateProductUseCase activateProductUseCase, SearchProductsUseCase searchProductsUseCase) {
+    public ProductController(CreateProductUseCase createProductUseCase, BulkCreateProductsUseCase bulkCreateProductsUseCase, BulkUpdatePricesUseCase bulkUpdatePricesUseCase, ActivateProductUseCase activateProductUseCase, SearchProductsUseCase searchProductsUseCase) {
         this.createProductUseCase = createProductUseCase;
+        this.bulkCreateProductsUseCase = bulkCreateProductsUseCase;
+        this.bulkUpdatePricesUseCase = bulkUpdatePricesUseCase;
         this.activateProductUseCase = activateProductUseCase;
         this.searchProductsUseCase = searchProductsUseCase;
     }
@@ -40,6 +53,18 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOperationResponse> createProducts(@RequestBody List<CreateProductRequest> requests) {
+        BulkOperationResponse response = bulkCreateProductsUseCase.createProducts(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PatchMapping("/prices")
+    public ResponseEntity<BulkOperationResponse> updatePrices(@RequestBody List<UpdatePriceRequest> requests) {
+        BulkOperationResponse response = bulkUpdatePricesUseCase.updatePrices(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{productId}/activate")
     public ResponseEntity<Void> activateProduct(@PathVariable UUID productId) {
         activateProductUseCase.activateProduct(productId);
@@ -51,4 +76,35 @@ public class ProductController {
         PageResponse<ProductResponse> productPagination = searchProductsUseCase.searchAllProducts(page, size);
         return ResponseEntity.ok(productPagination);
     }
+
+    @GetMapping(params = "categoryId")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductsByCategory(@RequestParam UUID categoryId, @RequestParam(defaultValue = "ACTIVE") ProductStatus status, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<ProductResponse> productPagination = searchProductsUseCase.scrollProductsByCategory(categoryId, status, cursor, size);
+        return ResponseEntity.ok(productPagination);
+    }
+
+    @GetMapping(params = {"fields", "!categoryId"})
+    public ResponseEntity<PageResponse<ProductSummaryResponse>> getAllProductSummaries(@RequestParam(required = false) List<String> fields, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+        PageResponse<ProductSummaryResponse> productPagination = searchProductsUseCase.searchAllProductSummaries(fields, page, size);
+        return ResponseEntity.ok(productPagination);
+    }
+
+    @GetMapping(params = {"count=false", "!fields", "!categoryId"})
+    public ResponseEntity<SliceResponse<ProductResponse>> getAllProductsWithoutCount(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "false") boolean estimate) {
+        SliceResponse<ProductResponse> productPagination = searchProductsUseCase.searchAllProductsWithoutCount(page, size, estimate);
+        return ResponseEntity.ok(productPagination);
+    }
+
+    @GetMapping("/sku/{sku}")
+    public ResponseEntity<ProductResponse> getProductBySku(@PathVariable String sku) {
+        return searchProductsUseCase.findProductBySku(sku)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> scrollAllProducts(@RequestParam(required = false) String cursor, @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<ProductResponse> productPagination = searchProductsUseCase.scrollAllProducts(cursor, size);
+        return ResponseEntity.ok(productPagination);
+    }
 }
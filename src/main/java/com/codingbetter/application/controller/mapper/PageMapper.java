@@ -1,14 +1,18 @@
 package com.codingbetter.application.controller.mapper;
 
+import com.codingbetter.application.controller.response.CursorPageResponse;
 import com.codingbetter.application.controller.response.PageResponse;
+import com.codingbetter.application.controller.response.SliceResponse;
+import com.codingbetter.domain.shared.model.CursorPage;
 import com.codingbetter.domain.shared.model.Page;
+import com.codingbetter.domain.shared.model.Slice;
 
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * Mapper class to convert between domain Page and PageResponse.
+ * Mapper class to convert between domain pages and their response DTOs.
  */
 public class PageMapper {
 
@@ -47,4 +51,61 @@ public class PageMapper {
                 page.hasPrevious()
         );
     }
-} 
\ No newline at end of file
+
+    /**
+     * Converts a domain CursorPage to a CursorPageResponse.
+     *
+     * @param page Domain CursorPage
+     * @param mapper Function to map domain entity to DTO
+     * @param <T> Domain entity type
+     * @param <R> DTO type
+     * @return CursorPageResponse
+     */
+    public static <T, R> CursorPageResponse<R> toResponse(CursorPage<T> page, Function<T, R> mapper) {
+        if (page == null) {
+            return CursorPageResponse.empty();
+        }
+
+        List<R> content = page.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return new CursorPageResponse<>(
+                content,
+                page.getSize(),
+                page.getNextCursor(),
+                page.hasNext()
+        );
+    }
+
+    /**
+     * Converts a domain Slice to a SliceResponse.
+     *
+     * @param slice Domain Slice
+     * @param mapper Function to map domain entity to DTO
+     * @param <T> Domain entity type
+     * @param <R> DTO type
+     * @return SliceResponse
+     */
+    public static <T, R> SliceResponse<R> toResponse(Slice<T> slice, Function<T, R> mapper) {
+        if (slice == null) {
+            return SliceResponse.empty();
+        }
+
+        List<R> content = slice.getContent().stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return new SliceResponse<>(
+                content,
+                slice.getSize(),
+                slice.getEstimatedTotalElements(),
+                slice.getNumber(),
+                slice.getNumberOfElements(),
+                slice.isFirst(),
+                slice.isLast(),
+                slice.hasNext(),
+                slice.hasPrevious()
+        );
+    }
+}
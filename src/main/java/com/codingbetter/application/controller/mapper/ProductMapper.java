@@ -3,7 +3,6 @@ package com.codingbetter.application.controller.mapper;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URL;
-import java.util.Currency;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -17,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.codingbetter.application.controller.request.CreateProductRequest;
 import com.codingbetter.application.controller.response.ProductResponse;
 import com.codingbetter.application.controller.response.ProductResponse;
+import com.codingbetter.application.controller.response.ProductSummaryResponse;
 import com.codingbetter.domain.catalog.category.model.CategoryId;
 import com.codingbetter.domain.catalog.product.model.Image;
 import com.codingbetter.domain.catalog.product.model.Money;
@@ -24,6 +24,7 @@ import com.codingbetter.domain.catalog.product.model.Product;
 import com.codingbetter.domain.catalog.product.model.ProductFactory;
 import com.codingbetter.domain.catalog.product.model.ProductId;
 import com.codingbetter.domain.catalog.product.model.ProductStatus;
+import com.codingbetter.domain.catalog.product.model.ProductSummary;
 import com.codingbetter.domain.catalog.product.model.Sku;
 import com.codingbetter.domain.catalog.product.model.Specification;
 
@@ -49,6 +50,30 @@ public interface ProductMapper {
     ProductResponse toResponse(Product product);
 
 
+    /**
+     * Converts a ProductSummary projection to a ProductSummaryResponse DTO.
+     * Attributes that were not projected are left null and omitted from the JSON.
+     *
+     * @param summary The product summary
+     * @return The product summary response
+     */
+    default ProductSummaryResponse toSummaryResponse(ProductSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return ProductSummaryResponse.builder()
+                .id(summary.getId().getUuid())
+                .sku(summary.getSku())
+                .name(summary.getName())
+                .description(summary.getDescription())
+                .price(summary.getPrice() != null ? summary.getPrice().getAmount() : null)
+                .currency(summary.getPrice() != null ? summary.getPrice().getCurrency().getCurrencyCode() : null)
+                .status(summary.getStatus() != null ? summary.getStatus().name() : null)
+                .categoryId(summary.getCategoryId() != null ? summary.getCategoryId().getValue() : null)
+                .build();
+    }
+
     /**
      * Converts a CreateProductRequest DTO to a Product domain entity.
      * This is a facade method that delegates to manual mapping due to 
@@ -64,7 +89,7 @@ public interface ProductMapper {
                     Sku.fromValue(request.getSku()),
                     request.getName(),
                     request.getDescription(),
-                    new Money(request.getPrice(), Currency.getInstance(request.getCurrency())),
+                    Money.of(request.getPrice(), request.getCurrency()),
                     new CategoryId(request.getCategoryId()))
                 .withStatus(ProductStatus.DRAFT)
                 .withImages(convertImages(request.getImages()))
@@ -0,0 +1,23 @@
+package com.codingbetter.application.controller.request;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Price change of one product, identified either by its id or by its SKU.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UpdatePriceRequest {
+    private UUID productId;
+    private String sku;
+    private BigDecimal price;
+    private String currency;
+}
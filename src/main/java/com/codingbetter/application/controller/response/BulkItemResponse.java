@@ -0,0 +1,34 @@
+package com.codingbetter.application.controller.response;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item of a bulk operation, addressed by its position in the request.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResponse {
+    private int index;
+    private String sku;
+    private UUID id;
+    private boolean success;
+    private String error;
+
+    public static BulkItemResponse success(int index, String sku, UUID id) {
+        return new BulkItemResponse(index, sku, id, true, null);
+    }
+
+    public static BulkItemResponse failure(int index, String sku, UUID id, String error) {
+        return new BulkItemResponse(index, sku, id, false, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.codingbetter.application.controller.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-item report of a bulk operation.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkOperationResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResponse> items;
+
+    public static BulkOperationResponse of(List<BulkItemResponse> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResponse::isSuccess).count();
+        return new BulkOperationResponse(succeeded, items.size() - succeeded, items);
+    }
+}
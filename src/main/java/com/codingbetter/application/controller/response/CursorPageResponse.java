@@ -0,0 +1,65 @@
+package com.codingbetter.application.controller.response;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO representing a cursor-paginated page of results for REST API responses.
+ * @param <T> The type of object contained in the page
+ */
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorPageResponse(List<T> content, int size, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Creates an empty cursor page response.
+     *
+     * @param <T> Type of elements in the page
+     * @return Empty cursor page response
+     */
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(Collections.emptyList(), 0, null, false);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,27 @@
+package com.codingbetter.application.controller.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductSummaryResponse {
+    private UUID id;
+    private String sku;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private String currency;
+    private String status;
+    private UUID categoryId;
+}
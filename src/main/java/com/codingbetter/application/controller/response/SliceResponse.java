@@ -0,0 +1,127 @@
+package com.codingbetter.application.controller.response;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DTO representing a slice of results, without an exact total, for REST API responses.
+ * @param <T> The type of object contained in the slice
+ */
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private Long estimatedTotalElements;
+    private int page;
+    private int pageElements;
+    private boolean first;
+    private boolean last;
+    private boolean hasNext;
+    private boolean hasPrevious;
+
+    public SliceResponse(List<T> content, int size, Long estimatedTotalElements, int page,
+                  int pageElements, boolean first, boolean last,
+                  boolean hasNext, boolean hasPrevious) {
+        this.content = content;
+        this.size = size;
+        this.estimatedTotalElements = estimatedTotalElements;
+        this.page = page;
+        this.pageElements = pageElements;
+        this.first = first;
+        this.last = last;
+        this.hasNext = hasNext;
+        this.hasPrevious = hasPrevious;
+    }
+
+    /**
+     * Creates an empty slice response.
+     *
+     * @param <T> Type of elements in the slice
+     * @return Empty slice response
+     */
+    public static <T> SliceResponse<T> empty() {
+        return new SliceResponse<>(
+            Collections.emptyList(),
+            0,
+            null,
+            0,
+            0,
+            true,
+            true,
+            false,
+            false
+        );
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Long getEstimatedTotalElements() {
+        return estimatedTotalElements;
+    }
+
+    public void setEstimatedTotalElements(Long estimatedTotalElements) {
+        this.estimatedTotalElements = estimatedTotalElements;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getPageElements() {
+        return pageElements;
+    }
+
+    public void setPageElements(int pageElements) {
+        this.pageElements = pageElements;
+    }
+
+    public boolean isFirst() {
+        return first;
+    }
+
+    public void setFirst(boolean first) {
+        this.first = first;
+    }
+
+    public boolean isLast() {
+        return last;
+    }
+
+    public void setLast(boolean last) {
+        this.last = last;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public boolean isHasPrevious() {
+        return hasPrevious;
+    }
+
+    public void setHasPrevious(boolean hasPrevious) {
+        this.hasPrevious = hasPrevious;
+    }
+}
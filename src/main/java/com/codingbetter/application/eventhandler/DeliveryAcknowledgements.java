@@ -0,0 +1,85 @@
+package com.codingbetter.application.eventhandler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.rabbitmq.client.Channel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Settles deliveries once the listener's transaction completed: acked after a commit,
+ * rejected after a rollback (dead-lettered and retried with a delay). Acking inside the
+ * transaction would lose the message if the commit then failed.
+ */
+@Slf4j
+final class DeliveryAcknowledgements {
+
+    private DeliveryAcknowledgements() {
+    }
+
+    /**
+     * Registers the settlement of a delivery with the current transaction.
+     *
+     * @param multiple Whether to settle every outstanding delivery up to the tag
+     * @throws IllegalStateException if no transaction is active
+     */
+    static void settleAfterCompletion(Channel channel, long tag, boolean multiple) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        channel.basicAck(tag, multiple);
+                    } else {
+                        channel.basicNack(tag, multiple, false);
+                    }
+                } catch (IOException e) {
+                    // The channel is gone; the broker redelivers the unsettled messages
+                    log.error("Failed to settle delivery {} after completion {}", tag, status, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Registers the settlement of a batch of deliveries with the current transaction. After a
+     * commit the rejected deliveries are nacked one by one and the others acked with a single
+     * multiple ack up to the last of them; after a rollback the whole batch is rejected.
+     *
+     * @param tags The delivery tags of the batch, in delivery order
+     * @param rejected The tags to reject even on commit, read when the transaction completes
+     */
+    static void settleBatchAfterCompletion(Channel channel, List<Long> tags, Set<Long> rejected) {
+        long lastTag = tags.get(tags.size() - 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status != STATUS_COMMITTED) {
+                        channel.basicNack(lastTag, true, false);
+                        return;
+                    }
+                    long lastAcked = -1;
+                    for (long tag : tags) {
+                        if (rejected.contains(tag)) {
+                            channel.basicNack(tag, false, false);
+                        } else {
+                            lastAcked = tag;
+                        }
+                    }
+                    if (lastAcked >= 0) {
+                        channel.basicAck(lastAcked, true);
+                    }
+                } catch (IOException e) {
+                    // The channel is gone; the broker redelivers the unsettled messages
+                    log.error("Failed to settle deliveries up to {} after completion {}", lastTag, status, e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.codingbetter.application.eventhandler;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.infrastructure.messaging.idempotency.ProcessedEventStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes price changes from the partition queues (see ProductPricePartitionConfig), one message
+ * at a time per partition, so the changes of a product are processed in the order they occurred.
+ * The unpartitioned queue keeps being consumed by ProductEventHandler.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${product.messaging.price-partitions:0} > 0")
+public class PricePartitionEventHandler {
+
+    private final ProcessedEventStore processedEvents;
+
+    public PricePartitionEventHandler(ProcessedEventStore processedEvents) {
+        this.processedEvents = processedEvents;
+    }
+
+    /**
+     * Acknowledged by the container once this returns. An exception is retried in place by the
+     * container's retry interceptor, each attempt in its own transaction, and the message is parked
+     * once attempts are exhausted.
+     */
+    @Transactional
+    @RabbitListener(queues = "#{@productPricePartitionQueueNames}", containerFactory = "pricePartitionListenerContainerFactory")
+    public void handleProductPriceChangedEvent(ProductPriceChangedEvent event) {
+        if (!processedEvents.claim(event)) {
+            log.info("Skipping already processed ProductPriceChangedEvent: {}", event.getId());
+            return;
+        }
+        log.info("Consuming ProductPriceChangedEvent: Product price changed: {}, new price: {}",
+                event.getProductId().getUuid(), event.getNewPrice().getAmount());
+        
+        // Here would be the business logic implementation
+        // For example: update the price in a read model,
+        // send notifications, etc.
+    }
+}
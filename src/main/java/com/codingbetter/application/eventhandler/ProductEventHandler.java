@@ -1,7 +1,15 @@
 package com.codingbetter.application.eventhandler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,30 +19,43 @@ import com.codingbetter.domain.catalog.product.event.ProductDeactivatedEvent;
 import com.codingbetter.domain.catalog.product.event.ProductDiscontinuedEvent;
 import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
 import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+import com.codingbetter.infrastructure.messaging.idempotency.ProcessedEventStore;
 import com.rabbitmq.client.Channel;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Consumes product events. Deliveries are at-least-once, so every handler first claims its
+ * events in the processed event store, in the transaction that processes them, and skips
+ * the ones already processed. Deliveries are acked only once that transaction committed.
+ */
 @Component
 @Slf4j
 public class ProductEventHandler {
 
+    private final ProcessedEventStore processedEvents;
+
+    public ProductEventHandler(ProcessedEventStore processedEvents) {
+        this.processedEvents = processedEvents;
+    }
+
     @Transactional
     @RabbitListener(queues = ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE)
     public void handleProductActivatedEvent(ProductActivatedEvent event, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+        DeliveryAcknowledgements.settleAfterCompletion(channel, tag, false);
         try {
+            if (!processedEvents.claim(event)) {
+                log.info("Skipping already processed ProductActivatedEvent: {}", event.getId());
+                return;
+            }
             log.info("Consuming ProductActivatedEvent: Product activated: {}", event.getProductId().getUuid());
             
             // Here would be the business logic implementation
             // For example: update the product status in the database,
             // send notifications, etc.
-            
-            // Confirm message processing
-            channel.basicAck(tag, false);
         } catch (Exception e) {
-            // In case of error, reject the message and return it to the queue
+            // The rollback rejects the message: it is dead-lettered and retried with a delay
             log.error("Error processing ProductActivatedEvent", e);
-            channel.basicNack(tag, false, true);
             throw e; // Propagate the exception to rollback the transaction
         }
     }
@@ -42,19 +63,20 @@ public class ProductEventHandler {
     @Transactional
     @RabbitListener(queues = ProductRabbitMQConfig.PRODUCT_DEACTIVATED_QUEUE)
     public void handleProductDeactivatedEvent(ProductDeactivatedEvent event, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+        DeliveryAcknowledgements.settleAfterCompletion(channel, tag, false);
         try {
+            if (!processedEvents.claim(event)) {
+                log.info("Skipping already processed ProductDeactivatedEvent: {}", event.getId());
+                return;
+            }
             log.info("Consuming ProductDeactivatedEvent: Product deactivated: {}", event.getProductId().getUuid());
             
             // Here would be the business logic implementation
             // For example: update the product status in the database,
             // send notifications, etc.
-            
-            // Confirm message processing
-            channel.basicAck(tag, false);
         } catch (Exception e) {
-            // In case of error, reject the message and return it to the queue
+            // The rollback rejects the message: it is dead-lettered and retried with a delay
             log.error("Error processing ProductDeactivatedEvent", e);
-            channel.basicNack(tag, false, true);
             throw e; // Propagate the exception to rollback the transaction
         }
     }
@@ -62,42 +84,70 @@ public class ProductEventHandler {
     @Transactional
     @RabbitListener(queues = ProductRabbitMQConfig.PRODUCT_DISCONTINUED_QUEUE)
     public void handleProductDiscontinuedEvent(ProductDiscontinuedEvent event, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+        DeliveryAcknowledgements.settleAfterCompletion(channel, tag, false);
         try {
+            if (!processedEvents.claim(event)) {
+                log.info("Skipping already processed ProductDiscontinuedEvent: {}", event.getId());
+                return;
+            }
             log.info("Consuming ProductDiscontinuedEvent: Product discontinued: {}", event.getProductId().getUuid());
             
             // Here would be the business logic implementation
             // For example: update the product status in the database,
             // send notifications, etc.
-            
-            // Confirm message processing
-            channel.basicAck(tag, false);
         } catch (Exception e) {
-            // In case of error, reject the message and return it to the queue
+            // The rollback rejects the message: it is dead-lettered and retried with a delay
             log.error("Error processing ProductDiscontinuedEvent", e);
-            channel.basicNack(tag, false, true);
             throw e; // Propagate the exception to rollback the transaction
         }
     }
     
+    /**
+     * Consumes price changes in batches (see batchRabbitListenerContainerFactory). Events are
+     * applied one by one, so a failing event only rejects its own delivery: the others are
+     * acknowledged with a single multiple ack on the last of them.
+     */
     @Transactional
-    @RabbitListener(queues = ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_QUEUE)
-    public void handleProductPriceChangedEvent(ProductPriceChangedEvent event, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+    @RabbitListener(queues = ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_QUEUE, containerFactory = "batchRabbitListenerContainerFactory")
+    public void handleProductPriceChangedEvents(List<Message<ProductPriceChangedEvent>> messages, Channel channel) throws Exception {
+        List<Long> tags = messages.stream().map(message -> message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class)).toList();
+        Set<Long> rejected = new HashSet<>();
+        DeliveryAcknowledgements.settleBatchAfterCompletion(channel, tags, rejected);
         try {
-            log.info("Consuming ProductPriceChangedEvent: Product price changed: {}, new price: {}", 
-                    event.getProductId().getUuid(), 
-                    event.getNewPrice().getAmount());
-            
-            // Here would be the business logic implementation
-            // For example: update the product price in the database,
-            // send notifications, etc.
-            
-            // Confirm message processing
-            channel.basicAck(tag, false);
+            List<ProductPriceChangedEvent> events = messages.stream().map(Message::getPayload).toList();
+            Set<ProductPriceChangedEvent> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+            claimed.addAll(processedEvents.claim(events));
+            log.info("Consuming {} ProductPriceChangedEvents ({} already processed)", claimed.size(), events.size() - claimed.size());
+            List<ProductPriceChangedEvent> failed = new ArrayList<>();
+            for (int i = 0; i < events.size(); i++) {
+                ProductPriceChangedEvent event = events.get(i);
+                if (!claimed.contains(event)) {
+                    continue;
+                }
+                try {
+                    applyPriceChange(event);
+                } catch (RuntimeException e) {
+                    // Rejected on its own: dead-lettered and retried with a delay
+                    log.error("Error processing ProductPriceChangedEvent {}", event.getId(), e);
+                    rejected.add(tags.get(i));
+                    failed.add(event);
+                }
+            }
+            processedEvents.release(failed);
         } catch (Exception e) {
-            // In case of error, reject the message and return it to the queue
-            log.error("Error processing ProductPriceChangedEvent", e);
-            channel.basicNack(tag, false, true);
+            // The rollback rejects the batch: its messages are dead-lettered and retried with a delay
+            log.error("Error processing ProductPriceChangedEvent batch", e);
             throw e; // Propagate the exception to rollback the transaction
         }
     }
-} 
\ No newline at end of file
+
+    private void applyPriceChange(ProductPriceChangedEvent event) {
+        log.debug("Product price changed: {}, new price: {}",
+                event.getProductId().getUuid(),
+                event.getNewPrice().getAmount());
+        
+        // Here would be the business logic implementation
+        // For example: update the price in a read model,
+        // send notifications, etc.
+    }
+}
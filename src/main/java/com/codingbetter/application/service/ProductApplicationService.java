@@ -1,39 +1,85 @@
 package com.codingbetter.application.service;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.codingbetter.application.controller.mapper.PageMapper;
 import com.codingbetter.application.controller.mapper.ProductMapper;
 import com.codingbetter.application.controller.request.CreateProductRequest;
+import com.codingbetter.application.controller.request.UpdatePriceRequest;
+import com.codingbetter.application.controller.response.BulkItemResponse;
+import com.codingbetter.application.controller.response.BulkOperationResponse;
+import com.codingbetter.application.controller.response.CursorPageResponse;
 import com.codingbetter.application.controller.response.ProductResponse;
+import com.codingbetter.application.controller.response.ProductSummaryResponse;
 import com.codingbetter.application.controller.response.PageResponse;
+import com.codingbetter.application.controller.response.SliceResponse;
 import com.codingbetter.application.usecase.ActivateProductUseCase;
+import com.codingbetter.application.usecase.BulkCreateProductsUseCase;
+import com.codingbetter.application.usecase.BulkUpdatePricesUseCase;
 import com.codingbetter.application.usecase.CreateProductUseCase;
 import com.codingbetter.application.usecase.SearchProductsUseCase;
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+import com.codingbetter.domain.catalog.product.exception.ProductConcurrentModificationException;
 import com.codingbetter.domain.catalog.product.exception.ProductNotFoundException;
 import com.codingbetter.domain.catalog.product.model.Image;
 import com.codingbetter.domain.catalog.product.model.Money;
 import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductField;
 import com.codingbetter.domain.catalog.product.model.ProductId;
 import com.codingbetter.domain.catalog.product.model.ProductRepository;
+import com.codingbetter.domain.catalog.product.model.ProductStatus;
+import com.codingbetter.domain.catalog.product.model.ProductSummary;
 import com.codingbetter.domain.catalog.product.model.Specification;
 import com.codingbetter.domain.shared.event.DomainEventPublisher;
+import com.codingbetter.domain.shared.model.CursorPage;
 import com.codingbetter.domain.shared.model.Page;
+import com.codingbetter.domain.shared.model.Slice;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
-public class ProductApplicationService implements CreateProductUseCase, ActivateProductUseCase, SearchProductsUseCase {
+public class ProductApplicationService implements CreateProductUseCase, BulkCreateProductsUseCase, BulkUpdatePricesUseCase, ActivateProductUseCase, SearchProductsUseCase {
     
     private final ProductMapper productMapper;
     private final ProductRepository productRepository;
     private final DomainEventPublisher eventPublisher;
+    private final int bulkChunkSize;
+    private final int maxWriteAttempts;
+    private final TransactionTemplate transactionTemplate;
 
-    public ProductApplicationService(ProductRepository productRepository, DomainEventPublisher eventPublisher, ProductMapper productMapper) {
+    public ProductApplicationService(ProductRepository productRepository, DomainEventPublisher eventPublisher, ProductMapper productMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${product.bulk.chunk-size:1000}") int bulkChunkSize,
+                                     @Value("${product.write.max-attempts:3}") int maxWriteAttempts) {
+        if (bulkChunkSize < 1) {
+            throw new IllegalArgumentException("product.bulk.chunk-size must be at least 1");
+        }
+        if (maxWriteAttempts < 1) {
+            throw new IllegalArgumentException("product.write.max-attempts must be at least 1");
+        }
         this.productRepository = productRepository;
         this.eventPublisher = eventPublisher;
         this.productMapper = productMapper;
+        this.bulkChunkSize = bulkChunkSize;
+        this.maxWriteAttempts = maxWriteAttempts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -45,8 +91,165 @@ public class ProductApplicationService implements CreateProductUseCase, Activate
         return productMapper.toResponse(newProduct);
     }
 
+    /**
+     * Builds and validates every product in parallel, then inserts the valid ones in bulk,
+     * each chunk of product.bulk.chunk-size products in its own transaction together with
+     * its events. Each request item is reported individually, in request order.
+     */
+    @Override
+    public BulkOperationResponse createProducts(List<CreateProductRequest> requests) {
+        Product[] products = new Product[requests.size()];
+        BulkItemResponse[] results = new BulkItemResponse[requests.size()];
+
+        IntStream.range(0, requests.size()).parallel().forEach(index -> {
+            CreateProductRequest request = requests.get(index);
+            try {
+                Product product = productMapper.toEntity(request);
+                if (product == null) {
+                    throw new IllegalArgumentException("Product request is required");
+                }
+                products[index] = product;
+            } catch (RuntimeException e) {
+                results[index] = BulkItemResponse.failure(index, request != null ? request.getSku() : null, null, e.getMessage());
+            }
+        });
+
+        List<Product> validProducts = Arrays.stream(products).filter(Objects::nonNull).toList();
+        Map<ProductId, String> failures = new HashMap<>();
+        for (int from = 0; from < validProducts.size(); from += bulkChunkSize) {
+            failures.putAll(insertChunk(validProducts.subList(from, Math.min(from + bulkChunkSize, validProducts.size()))));
+        }
+
+        for (int index = 0; index < products.length; index++) {
+            Product product = products[index];
+            if (product == null) {
+                continue;
+            }
+            String sku = product.getSku().getId().getValue();
+            String failure = failures.get(product.getId());
+            if (failure == null) {
+                results[index] = BulkItemResponse.success(index, sku, product.getId().getUuid());
+            } else {
+                results[index] = BulkItemResponse.failure(index, sku, null, failure);
+            }
+        }
+        return BulkOperationResponse.of(Arrays.asList(results));
+    }
+
+    /**
+     * Inserts one chunk and stores the events of the inserted products in the same transaction,
+     * retried as a whole when a concurrent transaction inserted one of its SKUs. Events are only
+     * cleared once the outcome is final, so a retry stores them again.
+     */
+    private Map<ProductId, String> insertChunk(List<Product> chunk) {
+        try {
+            return executeWithRetry(() -> {
+                Map<ProductId, String> failures = productRepository.insertAll(chunk);
+                chunk.stream()
+                    .filter(product -> !failures.containsKey(product.getId()))
+                    .forEach(product -> product.getDomainEvents().forEach(eventPublisher::publish));
+                return failures;
+            });
+        } catch (ProductConcurrentModificationException e) {
+            return chunk.stream().collect(Collectors.toMap(Product::getId, product -> e.getMessage()));
+        } finally {
+            chunk.forEach(Product::clearDomainEvents);
+        }
+    }
+
+    /**
+     * Applies price changes chunk by chunk: each chunk is loaded with a single $in query,
+     * validated in memory through Product.updatePrice, persisted with one bulkWrite and
+     * its events stored, all in one transaction per chunk. When a concurrent transaction
+     * wrote one of its products the chunk is loaded and applied again.
+     */
+    @Override
+    public BulkOperationResponse updatePrices(List<UpdatePriceRequest> requests) {
+        BulkItemResponse[] results = new BulkItemResponse[requests.size()];
+        for (int from = 0; from < requests.size(); from += bulkChunkSize) {
+            updatePricesChunk(requests, from, Math.min(from + bulkChunkSize, requests.size()), results);
+        }
+        return BulkOperationResponse.of(Arrays.asList(results));
+    }
+
+    private void updatePricesChunk(List<UpdatePriceRequest> requests, int from, int to, BulkItemResponse[] results) {
+        try {
+            executeWithRetry(() -> {
+                Arrays.fill(results, from, to, null);
+                applyPricesChunk(requests, from, to, results);
+                return null;
+            });
+        } catch (ProductConcurrentModificationException e) {
+            for (int index = from; index < to; index++) {
+                if (results[index] == null || results[index].isSuccess()) {
+                    UpdatePriceRequest request = requests.get(index);
+                    results[index] = BulkItemResponse.failure(index, request.getSku(), request.getProductId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void applyPricesChunk(List<UpdatePriceRequest> requests, int from, int to, BulkItemResponse[] results) {
+        List<UpdatePriceRequest> chunk = requests.subList(from, to);
+        Map<ProductId, Product> productsById = productRepository.findAllById(chunk.stream()
+                .filter(request -> request != null && request.getProductId() != null)
+                .map(request -> new ProductId(request.getProductId()))
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<String, Product> productsBySku = productRepository.findAllBySku(chunk.stream()
+                .filter(request -> request != null && request.getProductId() == null && request.getSku() != null)
+                .map(UpdatePriceRequest::getSku)
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(product -> product.getSku().getId().getValue(), Function.identity()));
+
+        Map<Integer, Product> updated = new HashMap<>();
+        Set<Product> changedProducts = new LinkedHashSet<>();
+        for (int index = from; index < to; index++) {
+            UpdatePriceRequest request = requests.get(index);
+            try {
+                Product product = resolveProduct(request, productsById, productsBySku);
+                product.updatePrice(Money.of(request.getPrice(), request.getCurrency()));
+                updated.put(index, product);
+                changedProducts.add(product);
+            } catch (RuntimeException e) {
+                results[index] = BulkItemResponse.failure(index,
+                        request != null ? request.getSku() : null,
+                        request != null ? request.getProductId() : null,
+                        e.getMessage());
+            }
+        }
+
+        Map<ProductId, String> failures = productRepository.updateAll(List.copyOf(changedProducts));
+        updated.forEach((index, product) -> {
+            String failure = failures.get(product.getId());
+            results[index] = failure == null
+                    ? BulkItemResponse.success(index, product.getSku().getId().getValue(), product.getId().getUuid())
+                    : BulkItemResponse.failure(index, product.getSku().getId().getValue(), product.getId().getUuid(), failure);
+        });
+        changedProducts.forEach(product -> {
+            if (failures.containsKey(product.getId())) {
+                product.clearDomainEvents();
+            } else {
+                publishDomainEvents(product);
+            }
+        });
+    }
+
+    private Product resolveProduct(UpdatePriceRequest request, Map<ProductId, Product> productsById, Map<String, Product> productsBySku) {
+        if (request == null) {
+            throw new IllegalArgumentException("Price change request is required");
+        }
+        Product product = request.getProductId() != null
+                ? productsById.get(new ProductId(request.getProductId()))
+                : productsBySku.get(request.getSku());
+        if (product == null) {
+            throw new ProductNotFoundException(String.format("Product %s was not found",
+                    request.getProductId() != null ? request.getProductId() : request.getSku()));
+        }
+        return product;
+    }
+
     @Override
-    @Transactional
     public void activateProduct(UUID productId) {
         executeAndPublishEvents(new ProductId(productId), Product::activate);
     }
@@ -57,6 +260,35 @@ public class ProductApplicationService implements CreateProductUseCase, Activate
         return PageMapper.toResponse(products, productMapper::toResponse);
     }
 
+    @Override
+    public PageResponse<ProductSummaryResponse> searchAllProductSummaries(List<String> fields, int page, int size) {
+        Page<ProductSummary> products = productRepository.findAllSummaries(toProductFields(fields), page, size);
+        return PageMapper.toResponse(products, productMapper::toSummaryResponse);
+    }
+
+    @Override
+    public SliceResponse<ProductResponse> searchAllProductsWithoutCount(int page, int size, boolean estimateTotal) {
+        Slice<Product> products = productRepository.findSlice(page, size, estimateTotal);
+        return PageMapper.toResponse(products, productMapper::toResponse);
+    }
+
+    @Override
+    public CursorPageResponse<ProductResponse> scrollAllProducts(String cursor, int size) {
+        CursorPage<Product> products = productRepository.findAllAfter(cursor, size);
+        return PageMapper.toResponse(products, productMapper::toResponse);
+    }
+
+    @Override
+    public CursorPageResponse<ProductResponse> scrollProductsByCategory(UUID categoryId, ProductStatus status, String cursor, int size) {
+        CursorPage<Product> products = productRepository.findByCategoryAfter(new CategoryId(categoryId), status, cursor, size);
+        return PageMapper.toResponse(products, productMapper::toResponse);
+    }
+
+    @Override
+    public Optional<ProductResponse> findProductBySku(String sku) {
+        return productRepository.findBySku(sku).map(productMapper::toResponse);
+    }
+
     public void updatePrice(ProductId productId, Money newPrice) {
         executeAndPublishEvents(productId, product -> product.updatePrice(newPrice));
     }
@@ -84,11 +316,48 @@ public class ProductApplicationService implements CreateProductUseCase, Activate
                 String.format("Product with ID %s was not found", productId.getUuid())));
     }
 
+    private Set<ProductField> toProductFields(List<String> fields) {
+        if (fields == null || fields.stream().allMatch(String::isBlank)) {
+            return ProductField.DEFAULT_SUMMARY;
+        }
+        Set<ProductField> productFields = EnumSet.noneOf(ProductField.class);
+        fields.stream()
+            .filter(field -> !field.isBlank())
+            .map(field -> ProductField.fromFieldName(field.trim()))
+            .forEach(productFields::add);
+        return productFields;
+    }
+
+    /**
+     * Loads the product, applies the operation, saves it and stores its events, all in one
+     * transaction. When another write got in between, the whole read-modify-write is retried
+     * in a new transaction on a freshly loaded product; the events of a lost attempt are
+     * rolled back with it.
+     */
     private void executeAndPublishEvents(ProductId productId, ProductOperation operation) {
-        Product product = findProductById(productId);
-        operation.execute(product);
-        productRepository.save(product);
-        publishDomainEvents(product);
+        executeWithRetry(() -> {
+            Product product = findProductById(productId);
+            operation.execute(product);
+            productRepository.save(product);
+            publishDomainEvents(product);
+            return null;
+        });
+    }
+
+    /**
+     * Runs the work in a new transaction, retried up to product.write.max-attempts times
+     * while it loses against a concurrent write.
+     */
+    private <T> T executeWithRetry(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ProductConcurrentModificationException e) {
+                if (attempt >= maxWriteAttempts) {
+                    throw e;
+                }
+            }
+        }
     }
 
     private void publishDomainEvents(Product product) {
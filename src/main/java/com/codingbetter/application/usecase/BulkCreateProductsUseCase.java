@@ -0,0 +1,10 @@
+package com.codingbetter.application.usecase;
+
+import java.util.List;
+
+import com.codingbetter.application.controller.request.CreateProductRequest;
+import com.codingbetter.application.controller.response.BulkOperationResponse;
+
+public interface BulkCreateProductsUseCase {
+    BulkOperationResponse createProducts(List<CreateProductRequest> requests);
+}
@@ -0,0 +1,10 @@
+package com.codingbetter.application.usecase;
+
+import java.util.List;
+
+import com.codingbetter.application.controller.request.UpdatePriceRequest;
+import com.codingbetter.application.controller.response.BulkOperationResponse;
+
+public interface BulkUpdatePricesUseCase {
+    BulkOperationResponse updatePrices(List<UpdatePriceRequest> requests);
+}
@@ -0,0 +1,5 @@
+package com.codingbetter.application.usecase;
+
+public interface ReplayParkedMessagesUseCase {
+    int replay(String queue, int limit);
+}
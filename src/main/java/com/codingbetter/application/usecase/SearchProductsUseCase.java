@@ -1,8 +1,22 @@
 package com.codingbetter.application.usecase;
 
+import com.codingbetter.application.controller.response.CursorPageResponse;
 import com.codingbetter.application.controller.response.PageResponse;
 import com.codingbetter.application.controller.response.ProductResponse;
+import com.codingbetter.application.controller.response.ProductSummaryResponse;
+import com.codingbetter.application.controller.response.SliceResponse;
+
+import com.codingbetter.domain.catalog.product.model.ProductStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface SearchProductsUseCase {
     PageResponse<ProductResponse> searchAllProducts(int page, int size);
+    PageResponse<ProductSummaryResponse> searchAllProductSummaries(List<String> fields, int page, int size);
+    SliceResponse<ProductResponse> searchAllProductsWithoutCount(int page, int size, boolean estimateTotal);
+    CursorPageResponse<ProductResponse> scrollAllProducts(String cursor, int size);
+    CursorPageResponse<ProductResponse> scrollProductsByCategory(UUID categoryId, ProductStatus status, String cursor, int size);
+    Optional<ProductResponse> findProductBySku(String sku);
 }
@@ -4,9 +4,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.codingbetter.domain.catalog.product.model.ProductId;
-import com.codingbetter.domain.shared.event.DomainEvent;
 
-public class ProductDeactivatedEvent implements DomainEvent {
+public class ProductDeactivatedEvent implements ProductEvent {
     private final UUID id;
     private final LocalDateTime occurredOn;
     private final ProductId productId;
@@ -17,6 +16,15 @@ public class ProductDeactivatedEvent implements DomainEvent {
         this.productId = productId;
     }
 
+    /**
+     * Restores a published event with its original id and time, e.g. when it is consumed.
+     */
+    public ProductDeactivatedEvent(UUID id, LocalDateTime occurredOn, ProductId productId) {
+        this.id = id;
+        this.occurredOn = occurredOn;
+        this.productId = productId;
+    }
+
     @Override
     public UUID getId() {
         return id;
@@ -27,6 +35,7 @@ public class ProductDeactivatedEvent implements DomainEvent {
         return occurredOn;
     }
 
+    @Override
     public ProductId getProductId() {
         return productId;
     }
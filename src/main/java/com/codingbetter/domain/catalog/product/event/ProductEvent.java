@@ -0,0 +1,13 @@
+package com.codingbetter.domain.catalog.product.event;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.shared.event.DomainEvent;
+
+/**
+ * A domain event about a single product. Events of the same product must be
+ * delivered in the order they occurred.
+ */
+public interface ProductEvent extends DomainEvent {
+
+    ProductId getProductId();
+}
@@ -5,10 +5,9 @@ import java.util.UUID;
 
 import com.codingbetter.domain.catalog.product.model.Money;
 import com.codingbetter.domain.catalog.product.model.ProductId;
-import com.codingbetter.domain.shared.event.DomainEvent;
 
 
-public class ProductPriceChangedEvent implements DomainEvent {
+public class ProductPriceChangedEvent implements ProductEvent {
     private final UUID id;
     private final LocalDateTime occurredOn;
     private final ProductId productId;
@@ -23,6 +22,18 @@ public class ProductPriceChangedEvent implements DomainEvent {
         this.newPrice = newPrice;
     }
 
+    /**
+     * Restores a published event with its original id and time, e.g. when it is consumed.
+     */
+    public ProductPriceChangedEvent(UUID id, LocalDateTime occurredOn, ProductId productId, Money oldPrice, Money newPrice) {
+        this.id = id;
+        this.occurredOn = occurredOn;
+        this.productId = productId;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    @Override
     public ProductId getProductId() {
         return productId;
     }
@@ -0,0 +1,11 @@
+package com.codingbetter.domain.catalog.product.exception;
+
+public class ProductConcurrentModificationException extends RuntimeException {
+    public ProductConcurrentModificationException(String message) {
+        super(message);
+    }
+
+    public ProductConcurrentModificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
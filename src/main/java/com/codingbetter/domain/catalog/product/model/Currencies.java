@@ -0,0 +1,61 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import java.util.Currency;
+
+/**
+ * Immutable registry of the ISO 4217 currencies known to the JVM, indexed by their
+ * three-letter code packed as a base-26 number (below 2^15). Resolving a code is a few
+ * character checks and an array read, with no hashing, locking or allocation, which
+ * matters when mapping millions of documents.
+ */
+public final class Currencies {
+
+    private static final int CODE_LENGTH = 3;
+    private static final Currency[] BY_CODE = new Currency[26 * 26 * 26];
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int index = index(currency.getCurrencyCode());
+            if (index >= 0) {
+                BY_CODE[index] = currency;
+            }
+        }
+    }
+
+    private Currencies() {
+    }
+
+    /**
+     * Resolves a currency by its ISO 4217 code, like {@link Currency#getInstance(String)}.
+     *
+     * @param currencyCode Three uppercase letters
+     * @return The shared Currency instance
+     * @throws IllegalArgumentException if the code is missing or not a known currency
+     */
+    public static Currency of(String currencyCode) {
+        if (currencyCode == null) {
+            throw new IllegalArgumentException("Currency is required");
+        }
+        int index = index(currencyCode);
+        Currency currency = index >= 0 ? BY_CODE[index] : null;
+        if (currency == null) {
+            throw new IllegalArgumentException("Unknown currency: " + currencyCode);
+        }
+        return currency;
+    }
+
+    private static int index(String currencyCode) {
+        if (currencyCode.length() != CODE_LENGTH) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            char c = currencyCode.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            index = index * 26 + (c - 'A');
+        }
+        return index;
+    }
+}
@@ -2,11 +2,20 @@ package com.codingbetter.domain.catalog.product.model;
 
 import java.math.BigDecimal;
 import java.util.Currency;
-import java.util.Objects;
 
 import com.codingbetter.domain.shared.model.ValueObject;
 
-public class Money implements ValueObject<Money> {
+/**
+ * Amount of money in a currency. Amounts are held as a long count of minor units
+ * (cents for USD, with the currency's default fraction digits), so arithmetic and
+ * comparisons do not allocate. Amounts that do not fit, because they have more decimals
+ * than the currency or overflow a long, are held as a BigDecimal instead. An amount is
+ * always held as minor units when it can be, so equal amounts have the same form and
+ * 1.0 and 1.00 are equal with the same hash code.
+ */
+public class Money implements ValueObject<Money>, Comparable<Money> {
+    private long minorUnits;
+    // Only set when the amount cannot be held as minorUnits
     private BigDecimal amount;
     private final Currency currency;
 
@@ -20,40 +29,90 @@ public class Money implements ValueObject<Money> {
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Amount must be greater than zero");
         }
-        this.amount = amount;
         this.currency = currency;
+        setAmount(amount);
+    }
+
+    /**
+     * Creates money from an ISO 4217 currency code, resolved through {@link Currencies}.
+     */
+    public static Money of(BigDecimal amount, String currencyCode) {
+        return new Money(amount, Currencies.of(currencyCode));
     }
 
     public void add(Money money) {
         validateMoneyForOperation(money);
-        this.amount = this.amount.add(money.getAmount());
+        if (amount == null && money.amount == null) {
+            try {
+                minorUnits = Math.addExact(minorUnits, money.minorUnits);
+                return;
+            } catch (ArithmeticException e) {
+                // Overflow, continue with BigDecimal
+            }
+        }
+        setAmount(getAmount().add(money.getAmount()));
     }
 
     public void sub(Money money) {
         validateMoneyForOperation(money);
-        this.amount = this.amount.subtract(money.getAmount());
+        if (amount == null && money.amount == null) {
+            try {
+                minorUnits = Math.subtractExact(minorUnits, money.minorUnits);
+                return;
+            } catch (ArithmeticException e) {
+                // Overflow, continue with BigDecimal
+            }
+        }
+        setAmount(getAmount().subtract(money.getAmount()));
     }
 
     public void changeAmount(Money money) {
         validateMoneyForOperation(money);
-        this.amount = money.getAmount();
+        this.minorUnits = money.minorUnits;
+        this.amount = money.amount;
     }
 
     public void multiply(Integer quantity) {
         if(quantity <= 0) {
             throw new IllegalArgumentException("quantity must be greater than zero");
         }
-        this.amount = this.amount.multiply(new BigDecimal(quantity));
+        if (amount == null) {
+            try {
+                minorUnits = Math.multiplyExact(minorUnits, quantity.longValue());
+                return;
+            } catch (ArithmeticException e) {
+                // Overflow, continue with BigDecimal
+            }
+        }
+        setAmount(getAmount().multiply(new BigDecimal(quantity)));
     }
 
+    /**
+     * @return The amount, with the currency's default fraction digits as scale when held as minor units
+     */
     public BigDecimal getAmount() {
-        return amount;
+        return amount != null ? amount : BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
     }
 
     public Currency getCurrency() {
         return currency;
     }
 
+    private void setAmount(BigDecimal newAmount) {
+        int fractionDigits = currency.getDefaultFractionDigits();
+        if (fractionDigits >= 0) {
+            try {
+                this.minorUnits = newAmount.movePointRight(fractionDigits).longValueExact();
+                this.amount = null;
+                return;
+            } catch (ArithmeticException e) {
+                // More decimals than the currency has, or too large for a long
+            }
+        }
+        this.minorUnits = 0;
+        this.amount = newAmount;
+    }
+
     private void validateMoneyForOperation(Money money) {
         if (money == null) {
             throw new IllegalArgumentException("Money is required");
@@ -64,6 +123,20 @@ public class Money implements ValueObject<Money> {
         }
     }
 
+    /**
+     * Compares amounts of the same currency.
+     *
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        validateMoneyForOperation(other);
+        if (amount == null && other.amount == null) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+        return getAmount().compareTo(other.getAmount());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -78,11 +151,18 @@ public class Money implements ValueObject<Money> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        int amountHash = amount == null ? Long.hashCode(minorUnits) : amount.stripTrailingZeros().hashCode();
+        return 31 * amountHash + currency.hashCode();
     }
 
     @Override
     public boolean sameValueAs(Money other) {
-        return amount.compareTo(other.amount) == 0 && currency.equals(other.currency);
+        if (!currency.equals(other.currency)) {
+            return false;
+        }
+        if (amount == null && other.amount == null) {
+            return minorUnits == other.minorUnits;
+        }
+        return getAmount().compareTo(other.getAmount()) == 0;
     }
 }
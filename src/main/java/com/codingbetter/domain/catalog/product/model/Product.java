@@ -1,7 +1,10 @@
 package com.codingbetter.domain.catalog.product.model;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import com.codingbetter.domain.catalog.category.model.CategoryId;
 import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
@@ -25,6 +28,8 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
     private List<Specification> specifications;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final Set<ProductChange> changes = EnumSet.noneOf(ProductChange.class);
+    private Long version;
 
     Product(ProductFactory.Builder builder) {
         this.id = builder.id;
@@ -37,6 +42,7 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         this.images = builder.images;
         this.specifications = builder.specifications;
         this.createdAt = builder.createdAt;
+        this.version = builder.version;
     }
 
     public void updatePrice(Money newPrice) {
@@ -44,18 +50,21 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         Money oldPrice = this.price;
         this.price = newPrice;
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.PRICE);
         this.addDomainEvent(new ProductPriceChangedEvent(this.id, oldPrice, newPrice));
     }
 
     public void draft() {
         this.status = ProductStatus.DRAFT;
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.STATUS);
     }
 
     public void activate() {
         ProductValidations.validateStatus(this.status, ProductStatus.ACTIVE);
         this.status = ProductStatus.ACTIVE;
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.STATUS);
         this.addDomainEvent(new ProductActivatedEvent(this.id));
     }
 
@@ -63,6 +72,7 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         ProductValidations.validateStatus(this.status, ProductStatus.INACTIVE);
         this.status = ProductStatus.INACTIVE;
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.STATUS);
         this.addDomainEvent(new ProductDeactivatedEvent(this.id));
     }
 
@@ -70,6 +80,7 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         ProductValidations.validateStatus(this.status, ProductStatus.DISCONTINUED);
         this.status = ProductStatus.DISCONTINUED;
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.STATUS);
         this.addDomainEvent(new ProductDiscontinuedEvent(this.id));
     }
 
@@ -78,6 +89,7 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         ProductValidations.validateImage(image, this.images);
         this.images.add(image);
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.IMAGES);
     }
 
     public void addSpecification(Specification specification) {
@@ -85,6 +97,7 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         ProductValidations.validateSpecification(specification, this.specifications);
         this.specifications.add(specification);
         this.updatedAt = LocalDateTime.now();
+        this.changes.add(ProductChange.SPECIFICATIONS);
     }
 
     @Override
@@ -132,6 +145,43 @@ public class Product extends AbstractAggregateRoot implements Entity<Product, Pr
         return updatedAt;
     }
 
+    /**
+     * Returns the parts of the product changed since it was loaded or last persisted,
+     * so repositories can write only those instead of the whole document.
+     */
+    public Set<ProductChange> getChanges() {
+        return Collections.unmodifiableSet(changes);
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    public void clearChanges() {
+        changes.clear();
+    }
+
+    /**
+     * Returns the version the product was loaded with, or null when it was never persisted.
+     * Repositories only write the product if the stored version still matches.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public boolean isNew() {
+        return version == null;
+    }
+
+    /**
+     * Records a successful write: the product now reflects the given stored version
+     * and has no pending changes.
+     */
+    public void markPersisted(long version) {
+        this.version = version;
+        clearChanges();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
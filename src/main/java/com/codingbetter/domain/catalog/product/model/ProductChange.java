@@ -0,0 +1,11 @@
+package com.codingbetter.domain.catalog.product.model;
+
+/**
+ * Mutable parts of a product that changed since it was loaded or last persisted.
+ */
+public enum ProductChange {
+    PRICE,
+    STATUS,
+    IMAGES,
+    SPECIFICATIONS
+}
@@ -31,6 +31,7 @@ public class ProductFactory {
         List<Image> images;
         List<Specification> specifications;
         LocalDateTime createdAt;
+        Long version;
 
         public Builder(ProductId id, Sku sku, String name, String description, Money price, CategoryId categoryId) {
             this.id = id;
@@ -71,6 +72,11 @@ public class ProductFactory {
             return this;
         }
 
+        public Builder withVersion(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Product build() {
             if (id == null) {
                 id = new ProductId();
@@ -0,0 +1,48 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Product attributes that can be selected when reading product summaries.
+ */
+public enum ProductField {
+    ID("id"),
+    SKU("sku"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    STATUS("status"),
+    CATEGORY_ID("categoryId");
+
+    /**
+     * Fields shown by list views when no explicit selection is given.
+     */
+    public static final Set<ProductField> DEFAULT_SUMMARY = Collections.unmodifiableSet(EnumSet.of(ID, NAME, PRICE, STATUS));
+
+    private final String fieldName;
+
+    ProductField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Resolves a field from its public name.
+     *
+     * @param fieldName The field name, as exposed by the API
+     * @return The matching field
+     */
+    public static ProductField fromFieldName(String fieldName) {
+        for (ProductField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown product field: " + fieldName);
+    }
+}
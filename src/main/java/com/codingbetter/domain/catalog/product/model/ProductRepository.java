@@ -1,12 +1,44 @@
 package com.codingbetter.domain.catalog.product.model;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+import com.codingbetter.domain.shared.model.CursorPage;
 import com.codingbetter.domain.shared.model.Page;
+import com.codingbetter.domain.shared.model.Slice;
 
 public interface ProductRepository {
     void save(Product product);
+
+    /**
+     * Inserts new products in bulk. A failing product does not prevent the others from being inserted.
+     *
+     * @param products The products to insert
+     * @return The failure reason of each product that could not be inserted
+     */
+    Map<ProductId, String> insertAll(List<Product> products);
+
+
+    /**
+     * Persists the pending changes of already existing products in bulk.
+     *
+     * @param products The changed products
+     * @return The failure reason of each product that could not be updated
+     */
+    Map<ProductId, String> updateAll(List<Product> products);
+
     Optional<Product> findById(ProductId productId);
+    List<Product> findAllById(Collection<ProductId> productIds);
+    List<Product> findAllBySku(Collection<String> skus);
+    Optional<Product> findBySku(String sku);
     Page<Product> findAll(int page, int size);
+    Page<ProductSummary> findAllSummaries(Set<ProductField> fields, int page, int size);
+    Slice<Product> findSlice(int page, int size, boolean estimateTotal);
+    CursorPage<Product> findAllAfter(String cursor, int size);
     Page<Product> findByCategory(String category, int page, int size);
+    CursorPage<Product> findByCategoryAfter(CategoryId categoryId, ProductStatus status, String cursor, int size);
 }
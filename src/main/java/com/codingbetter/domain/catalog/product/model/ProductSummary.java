@@ -0,0 +1,59 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+
+/**
+ * Read-only projection of a product, holding only the selected {@link ProductField}s.
+ * Attributes that were not selected are null; the id is always present.
+ */
+public class ProductSummary {
+
+    private final ProductId id;
+    private final String sku;
+    private final String name;
+    private final String description;
+    private final Money price;
+    private final ProductStatus status;
+    private final CategoryId categoryId;
+
+    public ProductSummary(ProductId id, String sku, String name, String description, Money price, ProductStatus status, CategoryId categoryId) {
+        if (id == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        this.id = id;
+        this.sku = sku;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.status = status;
+        this.categoryId = categoryId;
+    }
+
+    public ProductId getId() {
+        return id;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public ProductStatus getStatus() {
+        return status;
+    }
+
+    public CategoryId getCategoryId() {
+        return categoryId;
+    }
+}
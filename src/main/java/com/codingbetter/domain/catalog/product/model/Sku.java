@@ -1,56 +1,52 @@
 package com.codingbetter.domain.catalog.product.model;
 
 import com.codingbetter.domain.shared.model.Entity;
-import com.codingbetter.domain.shared.model.Identity;
 
+/**
+ * Stock keeping unit. Only the packed {@link SkuId} is stored; the components are decoded
+ * from it on access and shared between all SKUs (see SkuFormat).
+ */
 public class Sku implements Entity<Sku, String> {
     
     private final SkuId id;
-    private final String brand;        
-    private final String productType;  
-    private final String size;         
-    private final String color;        
-    private final String uniqueId;     
-    private final String location;     
 
     private Sku(SkuBuilder builder) {
-        String value = builder.brand + builder.productType + builder.size + builder.color + builder.uniqueId + builder.location;
-        this.id = new SkuId(value);
-        this.brand = builder.brand;
-        this.productType = builder.productType;
-        this.size = builder.size;
-        this.color = builder.color;
-        this.uniqueId = builder.uniqueId;
-        this.location = builder.location;
+        this.id = new SkuId(
+                SkuFormat.packLetters(builder.brand, builder.productType, builder.size, builder.color),
+                SkuFormat.packDigits(builder.uniqueId, builder.location));
+    }
+
+    private Sku(SkuId id) {
+        this.id = id;
     }
 
     @Override
-    public Identity<String> getId() {
+    public SkuId getId() {
         return id;
     }
 
     public String getBrand() {
-        return brand;
+        return SkuFormat.brand(id.getPackedLetters());
     }
     
     public String getProductType() {
-        return productType;
+        return SkuFormat.productType(id.getPackedLetters());
     }
     
     public String getSize() {
-        return size;
+        return SkuFormat.size(id.getPackedLetters());
     }
     
     public String getColor() {
-        return color;
+        return SkuFormat.color(id.getPackedLetters());
     }
     
     public String getUniqueId() {
-        return uniqueId;
+        return SkuFormat.uniqueId(id.getPackedDigits());
     }
     
     public String getLocation() {
-        return location;
+        return SkuFormat.location(id.getPackedDigits());
     }
 
     /**
@@ -66,61 +62,16 @@ public class Sku implements Entity<Sku, String> {
     }
     
     /**
-     * Factory method to create a SKU from a complete SKU string
+     * Factory method to create a SKU from a complete SKU string.
+     * The value is validated and packed in place, without intermediate strings.
      * @param skuValue The complete SKU string
      * @return A new Sku instance
      */
     public static Sku fromValue(String skuValue) {
-        if (skuValue == null) {
-            throw new IllegalArgumentException("Invalid SKU");
-        }
-        
-        if (skuValue.length() != 18) {
-            throw new IllegalArgumentException("Invalid SKU");
-        }
-        
-        try {
-            String brand = skuValue.substring(0, 3);
-            if (!brand.matches("[A-Z]{3}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            String productType = skuValue.substring(3, 7);
-            if (!productType.matches("[A-Z]{4}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            String size = skuValue.substring(7, 9);
-            if (!size.matches("[A-Z]{2}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            String color = skuValue.substring(9, 12);
-            if (!color.matches("[A-Z]{3}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            String uniqueId = skuValue.substring(12, 15);
-            if (!uniqueId.matches("\\d{3}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            String location = skuValue.substring(15);
-            if (!location.matches("\\d{3}")) {
-                throw new IllegalArgumentException("Invalid SKU");
-            }
-            
-            return new SkuBuilder()
-                    .withBrand(brand)
-                    .withProductType(productType)
-                    .withSize(size)
-                    .withColor(color)
-                    .withUniqueId(uniqueId)
-                    .withLocation(location)
-                    .build();
-        } catch (StringIndexOutOfBoundsException e) {
+        if (skuValue == null || !SkuFormat.isValid(skuValue)) {
             throw new IllegalArgumentException("Invalid SKU");
         }
+        return new Sku(new SkuId(SkuFormat.packLetters(skuValue), SkuFormat.packDigits(skuValue)));
     }
     
     public static SkuBuilder builder() {
@@ -136,7 +87,7 @@ public class Sku implements Entity<Sku, String> {
         private String location;
         
         public SkuBuilder withBrand(String brand) {
-            if (brand == null || brand.length() != 3 || !brand.matches("[A-Z]{3}")) {
+            if (!SkuFormat.isLetters(brand, 3)) {
                 throw new IllegalArgumentException("Brand must be 3 uppercase letters");
             }
             this.brand = brand;
@@ -144,7 +95,7 @@ public class Sku implements Entity<Sku, String> {
         }
         
         public SkuBuilder withProductType(String productType) {
-            if (productType == null || productType.length() != 4 || !productType.matches("[A-Z]{4}")) {
+            if (!SkuFormat.isLetters(productType, 4)) {
                 throw new IllegalArgumentException("Product type must be 4 uppercase letters");
             }
             this.productType = productType;
@@ -152,7 +103,7 @@ public class Sku implements Entity<Sku, String> {
         }
         
         public SkuBuilder withSize(String size) {
-            if (size == null || size.length() != 2 || !size.matches("[A-Z]{2}")) {
+            if (!SkuFormat.isLetters(size, 2)) {
                 throw new IllegalArgumentException("Size must be 2 uppercase letters");
             }
             this.size = size;
@@ -160,7 +111,7 @@ public class Sku implements Entity<Sku, String> {
         }
         
         public SkuBuilder withColor(String color) {
-            if (color == null || color.length() != 3 || !color.matches("[A-Z]{3}")) {
+            if (!SkuFormat.isLetters(color, 3)) {
                 throw new IllegalArgumentException("Color must be 3 uppercase letters");
             }
             this.color = color;
@@ -168,7 +119,7 @@ public class Sku implements Entity<Sku, String> {
         }
         
         public SkuBuilder withUniqueId(String uniqueId) {
-            if (uniqueId == null || uniqueId.length() != 3 || !uniqueId.matches("\\d{3}")) {
+            if (!SkuFormat.isDigits(uniqueId, 3)) {
                 throw new IllegalArgumentException("Unique ID must be 3 digits");
             }
             this.uniqueId = uniqueId;
@@ -176,7 +127,7 @@ public class Sku implements Entity<Sku, String> {
         }
         
         public SkuBuilder withLocation(String location) {
-            if (location == null || location.length() != 3 || !location.matches("\\d{3}")) {
+            if (!SkuFormat.isDigits(location, 3)) {
                 throw new IllegalArgumentException("Location must be 3 digits");
             }
             this.location = location;
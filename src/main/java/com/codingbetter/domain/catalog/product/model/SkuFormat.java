@@ -0,0 +1,198 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-pass validation of the SKU layout
+ * [Brand(3)][ProductType(4)][Size(2)][Color(3)][ID(3)][Location(3)]:
+ * twelve uppercase ASCII letters followed by six ASCII digits.
+ * Scans the characters in place, without regular expressions or intermediate strings.
+ * <p>
+ * Also packs a SKU into primitives: the letters as a base-26 number (26^12 &lt; 2^57) and
+ * the digits as an int. Both fields are kept apart because the whole SKU needs about 77 bits.
+ * Components decoded from the packed form come from shared tables, so every brand, color,
+ * size, product type and number exists as a single String however many SKUs use it.
+ */
+final class SkuFormat {
+
+    static final int LENGTH = 18;
+    static final int LETTERS = 12;
+
+    static final int BRAND_END = 3;
+    static final int PRODUCT_TYPE_END = 7;
+    static final int SIZE_END = 9;
+    static final int COLOR_END = 12;
+    static final int UNIQUE_ID_END = 15;
+
+    private static final int TWO_LETTERS = 26 * 26;
+    private static final int THREE_LETTERS = 26 * 26 * 26;
+    private static final int FOUR_LETTERS = 26 * 26 * 26 * 26;
+    private static final int THREE_DIGITS = 1000;
+
+    // Racy but safe caches: Strings are immutable, at worst a name is built twice
+    private static final String[] TWO_LETTER_NAMES = new String[TWO_LETTERS];
+    private static final String[] THREE_LETTER_NAMES = new String[THREE_LETTERS];
+    private static final String[] THREE_DIGIT_NAMES = new String[THREE_DIGITS];
+    private static final ConcurrentMap<Integer, String> FOUR_LETTER_NAMES = new ConcurrentHashMap<>();
+
+    private SkuFormat() {
+    }
+
+    static boolean isValid(String value) {
+        if (value.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LETTERS; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        for (int i = LETTERS; i < LENGTH; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isLetters(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isDigits(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Packs the letters of a valid SKU value. */
+    static long packLetters(String value) {
+        return appendLetters(0, value, LETTERS);
+    }
+
+    /** Packs the digits of a valid SKU value. */
+    static int packDigits(String value) {
+        return appendDigits(0, value, LETTERS, LENGTH);
+    }
+
+    /** Packs the letters of validated components, as {@link #packLetters(String)} does for their concatenation. */
+    static long packLetters(String brand, String productType, String size, String color) {
+        long packed = appendLetters(0, brand, brand.length());
+        packed = appendLetters(packed, productType, productType.length());
+        packed = appendLetters(packed, size, size.length());
+        return appendLetters(packed, color, color.length());
+    }
+
+    /** Packs the digits of validated components, as {@link #packDigits(String)} does for their concatenation. */
+    static int packDigits(String uniqueId, String location) {
+        return appendDigits(appendDigits(0, uniqueId, 0, uniqueId.length()), location, 0, location.length());
+    }
+
+    static String toValue(long letters, int digits) {
+        char[] chars = new char[LENGTH];
+        for (int i = LETTERS - 1; i >= 0; i--) {
+            chars[i] = (char) ('A' + letters % 26);
+            letters /= 26;
+        }
+        for (int i = LENGTH - 1; i >= LETTERS; i--) {
+            chars[i] = (char) ('0' + digits % 10);
+            digits /= 10;
+        }
+        return new String(chars);
+    }
+
+    static String brand(long letters) {
+        return threeLetterName((int) (letters / ((long) FOUR_LETTERS * TWO_LETTERS * THREE_LETTERS)));
+    }
+
+    static String productType(long letters) {
+        int code = (int) (letters / ((long) TWO_LETTERS * THREE_LETTERS) % FOUR_LETTERS);
+        return FOUR_LETTER_NAMES.computeIfAbsent(code, key -> lettersOf(key, 4));
+    }
+
+    static String size(long letters) {
+        int code = (int) (letters / THREE_LETTERS % TWO_LETTERS);
+        String name = TWO_LETTER_NAMES[code];
+        if (name == null) {
+            name = lettersOf(code, 2);
+            TWO_LETTER_NAMES[code] = name;
+        }
+        return name;
+    }
+
+    static String color(long letters) {
+        return threeLetterName((int) (letters % THREE_LETTERS));
+    }
+
+    static String uniqueId(int digits) {
+        return threeDigitName(digits / THREE_DIGITS);
+    }
+
+    static String location(int digits) {
+        return threeDigitName(digits % THREE_DIGITS);
+    }
+
+    private static String threeLetterName(int code) {
+        String name = THREE_LETTER_NAMES[code];
+        if (name == null) {
+            name = lettersOf(code, 3);
+            THREE_LETTER_NAMES[code] = name;
+        }
+        return name;
+    }
+
+    private static String threeDigitName(int code) {
+        String name = THREE_DIGIT_NAMES[code];
+        if (name == null) {
+            name = new String(new char[] {(char) ('0' + code / 100), (char) ('0' + code / 10 % 10), (char) ('0' + code % 10)});
+            THREE_DIGIT_NAMES[code] = name;
+        }
+        return name;
+    }
+
+    private static String lettersOf(int code, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = (char) ('A' + code % 26);
+            code /= 26;
+        }
+        return new String(chars);
+    }
+
+    private static long appendLetters(long packed, String value, int length) {
+        for (int i = 0; i < length; i++) {
+            packed = packed * 26 + (value.charAt(i) - 'A');
+        }
+        return packed;
+    }
+
+    private static int appendDigits(int packed, String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            packed = packed * 10 + (value.charAt(i) - '0');
+        }
+        return packed;
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -2,25 +2,57 @@ package com.codingbetter.domain.catalog.product.model;
 
 import com.codingbetter.domain.shared.model.Identity;
 
+/**
+ * SKU value, held packed in a long and an int (see SkuFormat) rather than as a String.
+ * The String form is built the first time it is asked for and then kept, equality and hashing
+ * only compare the two primitives.
+ */
 public class SkuId implements Identity<String> {
-    // Format: [Brand(3)][ProductType(4)][Size(2)][Color(3)][ID(3)][Location(3)]
-    private static final String REGEX_SKU = "^[A-Z]{3}[A-Z]{4}[A-Z]{2}[A-Z]{3}\\d{3}\\d{3}$";
-    
-    private final String value;
+    // Format: [Brand(3)][ProductType(4)][Size(2)][Color(3)][ID(3)][Location(3)], checked by SkuFormat
+
+    private final long letters;
+    private final int digits;
+    // Racy single-check like String.hash: a String is immutable, so a concurrent first call at worst builds it twice
+    private String value;
 
     public SkuId(String value) {
         if (value == null) {
             throw new IllegalArgumentException("SKU is required");
         }
-        if (!value.matches(REGEX_SKU)) {
+        if (!SkuFormat.isValid(value)) {
             throw new IllegalArgumentException("SKU must match pattern: [A-Z]{3}[A-Z]{4}[A-Z]{2}[A-Z]{3}\\d{3}\\d{3}");
         }
-        this.value = value;
+        this.letters = SkuFormat.packLetters(value);
+        this.digits = SkuFormat.packDigits(value);
+    }
+
+    SkuId(long letters, int digits) {
+        this.letters = letters;
+        this.digits = digits;
     }
 
     @Override
     public String getValue() {
-        return value;
+        String cached = value;
+        if (cached == null) {
+            cached = SkuFormat.toValue(letters, digits);
+            value = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * @return The twelve letters of the SKU as a base-26 number
+     */
+    public long getPackedLetters() {
+        return letters;
+    }
+
+    /**
+     * @return The six digits of the SKU as a number
+     */
+    public int getPackedDigits() {
+        return digits;
     }
 
     @Override
@@ -28,11 +60,11 @@ public class SkuId implements Identity<String> {
         if (this == other) return true;
         if (other == null || getClass() != other.getClass()) return false;
         SkuId that = (SkuId) other;
-        return value.equals(that.value);
+        return letters == that.letters && digits == that.digits;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * Long.hashCode(letters) + digits;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.codingbetter.domain.shared.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of results addressed by an opaque continuation cursor instead of an offset.
+ * Carries no total count, so fetching it never requires counting the collection.
+ * @param <T> The type of object contained in the page
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+
+    private CursorPage(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Creates a cursor page.
+     *
+     * @param content Elements of the page
+     * @param size Requested page size
+     * @param nextCursor Cursor of the following page, or null if this is the last one
+     * @param <T> Type of elements in the page
+     * @return Cursor page
+     */
+    public static <T> CursorPage<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPage<>(content == null ? Collections.emptyList() : content, size, nextCursor);
+    }
+
+    /**
+     * Creates an empty, last cursor page.
+     *
+     * @param <T> Type of elements in the page
+     * @return Empty cursor page
+     */
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(Collections.emptyList(), 0, null);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Maps the content of this page, keeping the cursor.
+     *
+     * @param mapper Function to map each element
+     * @param <R> Type of the mapped elements
+     * @return Mapped cursor page
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        List<R> mapped = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPage<>(mapped, size, nextCursor);
+    }
+}
@@ -0,0 +1,104 @@
+package com.codingbetter.domain.shared.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An offset page of results that does not know the exact number of elements.
+ * Unlike {@link Page}, fetching a slice never counts the whole collection: it only
+ * knows whether a following slice exists and, optionally, an approximate total.
+ * @param <T> The type of object contained in the slice
+ */
+public class Slice<T> {
+
+    private final List<T> content;
+    private final int number;
+    private final int size;
+    private final boolean hasNext;
+    private final Long estimatedTotalElements;
+
+    private Slice(List<T> content, int number, int size, boolean hasNext, Long estimatedTotalElements) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.estimatedTotalElements = estimatedTotalElements;
+    }
+
+    /**
+     * Creates a slice.
+     *
+     * @param content Elements of the slice
+     * @param number Zero-based slice number
+     * @param size Requested slice size
+     * @param hasNext Whether a following slice exists
+     * @param estimatedTotalElements Approximate total of elements, or null if not requested
+     * @param <T> Type of elements in the slice
+     * @return Slice
+     */
+    public static <T> Slice<T> of(List<T> content, int number, int size, boolean hasNext, Long estimatedTotalElements) {
+        return new Slice<>(content == null ? Collections.emptyList() : content, number, size, hasNext, estimatedTotalElements);
+    }
+
+    /**
+     * Creates an empty slice.
+     *
+     * @param <T> Type of elements in the slice
+     * @return Empty slice
+     */
+    public static <T> Slice<T> empty() {
+        return new Slice<>(Collections.emptyList(), 0, 0, false, null);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    public Long getEstimatedTotalElements() {
+        return estimatedTotalElements;
+    }
+
+    public boolean isFirst() {
+        return number == 0;
+    }
+
+    public boolean isLast() {
+        return !hasNext;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean hasPrevious() {
+        return number > 0;
+    }
+
+    /**
+     * Maps the content of this slice, keeping its position.
+     *
+     * @param mapper Function to map each element
+     * @param <R> Type of the mapped elements
+     * @return Mapped slice
+     */
+    public <R> Slice<R> map(Function<T, R> mapper) {
+        List<R> mapped = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new Slice<>(mapped, number, size, hasNext, estimatedTotalElements);
+    }
+}
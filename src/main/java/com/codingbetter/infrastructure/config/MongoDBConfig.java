@@ -5,7 +5,10 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,4 +44,13 @@ public class MongoDBConfig extends AbstractMongoClientConfiguration {
             .build();
         return MongoClients.create(mongoClientSettings);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Enables multi-document transactions, so a product write and its outbox events
+     * commit together. Requires MongoDB to run as a replica set.
+     */
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
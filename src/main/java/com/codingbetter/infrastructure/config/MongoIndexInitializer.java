@@ -0,0 +1,56 @@
+package com.codingbetter.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+import com.codingbetter.infrastructure.persistence.entity.ProcessedEventEntity;
+import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes declared on the persistence entities once the application starts.
+ * Automatic index creation is disabled by default in Spring Data MongoDB, so without this
+ * the annotations on the entities would only be documentation.
+ */
+@Component
+@Slf4j
+public class MongoIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate, MongoMappingContext mongoMappingContext) {
+        this.mongoTemplate = mongoTemplate;
+        this.mongoMappingContext = mongoMappingContext;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes() {
+        List.of(ProductEntity.class, OutboxMessageEntity.class, ProcessedEventEntity.class).forEach(this::initIndexes);
+    }
+
+    private void initIndexes(Class<?> entityClass) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entityClass);
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        indexResolver.resolveIndexFor(entityClass).forEach(index -> {
+            log.info("Ensuring index on {}: {}", mongoTemplate.getCollectionName(entityClass), index.getIndexKeys());
+            try {
+                indexOperations.ensureIndex(index);
+            } catch (DataAccessException e) {
+                // An equivalent index may already exist under another name (e.g. created by mongo-init.js)
+                log.warn("Could not create index {}: {}", index.getIndexKeys(), e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.codingbetter.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled outbox relay. With product.outbox.enabled=false events are
+ * published straight to RabbitMQ by RabbitMQDomainEventPublisher instead.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+}
@@ -0,0 +1,31 @@
+package com.codingbetter.infrastructure.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the per-instance queue used to broadcast product cache invalidations.
+ * Every instance binds its own exclusive, auto-delete queue to the product exchange,
+ * so a single invalidation message fans out to all running nodes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheInvalidationConfig {
+
+    @Bean
+    public Queue productCacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy(ProductRabbitMQConfig.PRODUCT_CACHE_INVALIDATION_QUEUE_PREFIX));
+    }
+
+    @Bean
+    public Binding productCacheInvalidationBinding(Queue productCacheInvalidationQueue, TopicExchange productExchange) {
+        return BindingBuilder.bind(productCacheInvalidationQueue).to(productExchange).with(ProductRabbitMQConfig.PRODUCT_CACHE_INVALIDATION_ROUTING_KEY);
+    }
+}
@@ -0,0 +1,117 @@
+package com.codingbetter.infrastructure.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Binding.DestinationType;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecovererWithConfirms;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Declares the price partition queues, enabled with product.messaging.price-partitions greater than zero.
+ * ProductPriceChangedEventRoutingStrategy routes each product to one partition, and every partition queue
+ * is a single-active-consumer queue: across all instances only one consumer receives from it at a time.
+ * Price changes of a product are therefore consumed strictly in order, while partitions are consumed in
+ * parallel. A failing message is retried in place with a blocking backoff, so a partition never moves
+ * past it, and is moved to the partition's parking lot once attempts are exhausted, so partitions have
+ * no retry queues. Messages rejected by the container still dead-letter into the price-changed
+ * dead-letter queue, from which DeadLetterRouter parks them directly. The partition count must only be changed once the partition queues have been drained.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnExpression("${product.messaging.price-partitions:0} > 0")
+public class ProductPricePartitionConfig {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+    private final int partitions;
+
+    public ProductPricePartitionConfig(@Value("${product.messaging.price-partitions:0}") int partitions) {
+        this.partitions = partitions;
+    }
+
+    @Bean
+    public String[] productPricePartitionQueueNames() {
+        return IntStream.range(0, partitions)
+                .mapToObj(ProductRabbitMQConfig::pricePartitionQueue)
+                .toArray(String[]::new);
+    }
+
+    @Bean
+    public Declarables productPricePartitionDeclarables(TopicExchange productExchange) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            String queueName = ProductRabbitMQConfig.pricePartitionQueue(partition);
+            Queue queue = ProductRabbitMQConfig.workQueueBuilder(queueName)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(productExchange).with(ProductRabbitMQConfig.pricePartitionRoutingKey(partition)));
+            declarables.add(new Binding(ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_QUEUE + ProductRabbitMQConfig.DEAD_LETTER_QUEUE_SUFFIX,
+                    DestinationType.QUEUE, ProductRabbitMQConfig.DEAD_LETTER_EXCHANGE, queueName, null));
+            declarables.add(QueueBuilder.durable(queueName + ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX).build());
+        }
+        log.info("Price changes partitioned over {} single-active-consumer queues", partitions);
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Direct container factory: each partition queue gets its own consumer and channel, so partitions
+     * are processed concurrently while each one delivers to its listener one message at a time.
+     * A stateless retry interceptor re-invokes the listener with exponential backoff, blocking the
+     * partition, and then republishes the message to the parking lot of its queue, waiting for the
+     * confirm; the container acknowledges the delivery afterwards.
+     */
+    @Bean
+    public DirectRabbitListenerContainerFactory pricePartitionListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            RabbitTemplate rabbitTemplate,
+            @Value("${product.listener.prefetch:25}") int prefetch,
+            @Value("${product.messaging.retry.max-attempts:3}") int maxAttempts,
+            @Value("${product.messaging.retry.initial-delay:1s}") Duration initialDelay,
+            @Value("${product.messaging.retry.multiplier:5}") int multiplier,
+            @Value("${product.messaging.retry.max-delay:1m}") Duration maxDelay) {
+        MessageRecoverer parkingLotRecoverer = new RepublishMessageRecovererWithConfirms(rabbitTemplate,
+                new LiteralExpression(""),
+                PARSER.parseExpression("messageProperties.consumerQueue + '" + ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX + "'"),
+                ConfirmType.CORRELATED);
+        DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(false);
+        factory.setConsumersPerQueue(1);
+        factory.setPrefetchCount(prefetch);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(maxAttempts)
+                .backOffOptions(initialDelay.toMillis(), multiplier, maxDelay.toMillis())
+                .recoverer(parkingLotRecoverer)
+                .build());
+        return factory;
+    }
+}
@@ -1,9 +1,18 @@
 package com.codingbetter.infrastructure.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,6 +31,21 @@ public class ProductRabbitMQConfig {
     public static final String PRODUCT_DISCONTINUED_ROUTING_KEY = "product.discontinued";
     public static final String PRODUCT_PRICE_CHANGED_ROUTING_KEY = "product.price-changed";
 
+    /** Queues consumed by ProductEventHandler; each one gets its own dead-letter, retry and parking-lot queues. */
+    public static final List<String> WORK_QUEUES = List.of(
+            PRODUCT_ACTIVATED_QUEUE, PRODUCT_DEACTIVATED_QUEUE, PRODUCT_DISCONTINUED_QUEUE, PRODUCT_PRICE_CHANGED_QUEUE);
+
+    public static final String DEAD_LETTER_EXCHANGE = "product-exchange.dlx";
+    public static final String DEAD_LETTER_QUEUE_SUFFIX = ".dlq";
+    public static final String RETRY_QUEUE_SUFFIX = ".retry.";
+    public static final String PARKING_LOT_QUEUE_SUFFIX = ".parking-lot";
+
+    /** Price partition queues are named &lt;price queue&gt;.partition-&lt;n&gt;, see ProductPricePartitionConfig. */
+    public static final String PARTITION_QUEUE_SUFFIX = ".partition-";
+
+    public static final String PRODUCT_CACHE_INVALIDATION_QUEUE_PREFIX = "product-cache-invalidation.";
+    public static final String PRODUCT_CACHE_INVALIDATION_ROUTING_KEY = "product.cache.invalidated";
+
     @Bean
     public TopicExchange productExchange() {
         return new TopicExchange(EXCHANGE_NAME);
@@ -29,22 +53,22 @@ public class ProductRabbitMQConfig {
 
     @Bean
     public Queue productActivatedQueue() {
-        return new Queue(PRODUCT_ACTIVATED_QUEUE, true);
+        return workQueue(PRODUCT_ACTIVATED_QUEUE);
     }
 
     @Bean
     public Queue productDeactivatedQueue() {
-        return new Queue(PRODUCT_DEACTIVATED_QUEUE, true);
+        return workQueue(PRODUCT_DEACTIVATED_QUEUE);
     }
 
     @Bean
     public Queue productDiscontinuedQueue() {
-        return new Queue(PRODUCT_DISCONTINUED_QUEUE, true);
+        return workQueue(PRODUCT_DISCONTINUED_QUEUE);
     }
 
     @Bean
     public Queue productPriceChangedQueue() {
-        return new Queue(PRODUCT_PRICE_CHANGED_QUEUE, true);
+        return workQueue(PRODUCT_PRICE_CHANGED_QUEUE);
     }
 
     @Bean
@@ -66,4 +90,83 @@ public class ProductRabbitMQConfig {
     public Binding productPriceChangedBinding(Queue productPriceChangedQueue, TopicExchange productExchange) {
         return BindingBuilder.bind(productPriceChangedQueue).to(productExchange).with(PRODUCT_PRICE_CHANGED_ROUTING_KEY);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Dead-letter topology, per work queue:
+     * rejected messages go through the dead-letter exchange to &lt;queue&gt;.dlq; DeadLetterRouter moves them
+     * to &lt;queue&gt;.retry.&lt;n&gt;, whose TTL grows exponentially with the attempt and which dead-letters back
+     * into the work queue; after product.messaging.retry.max-attempts they end up in &lt;queue&gt;.parking-lot.
+     */
+    @Bean
+    public Declarables productDeadLetterDeclarables(@Value("${product.messaging.retry.max-attempts:3}") int maxAttempts,
+                                                    @Value("${product.messaging.retry.initial-delay:1s}") Duration initialDelay,
+                                                    @Value("${product.messaging.retry.multiplier:5}") int multiplier) {
+        DirectExchange deadLetterExchange = new DirectExchange(DEAD_LETTER_EXCHANGE);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(deadLetterExchange);
+        for (String queue : WORK_QUEUES) {
+            Queue deadLetterQueue = QueueBuilder.durable(queue + DEAD_LETTER_QUEUE_SUFFIX).build();
+            declarables.add(deadLetterQueue);
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(queue));
+            declarables.addAll(retryDeclarables(queue, maxAttempts, initialDelay, multiplier));
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * Declares the retry queues and the parking lot of a work queue.
+     */
+    private static List<Declarable> retryDeclarables(String queue, int maxAttempts, Duration initialDelay, int multiplier) {
+        List<Declarable> declarables = new ArrayList<>();
+        long delay = initialDelay.toMillis();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            declarables.add(QueueBuilder.durable(retryQueue(queue, attempt))
+                    .ttl((int) delay)
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(queue)
+                    .build());
+            delay *= multiplier;
+        }
+        declarables.add(QueueBuilder.durable(queue + PARKING_LOT_QUEUE_SUFFIX).build());
+        return declarables;
+    }
+
+    public static String retryQueue(String queue, int attempt) {
+        return queue + RETRY_QUEUE_SUFFIX + attempt;
+    }
+
+    public static String pricePartitionQueue(int partition) {
+        return PRODUCT_PRICE_CHANGED_QUEUE + PARTITION_QUEUE_SUFFIX + partition;
+    }
+
+    public static String pricePartitionRoutingKey(int partition) {
+        return PRODUCT_PRICE_CHANGED_ROUTING_KEY + "." + partition;
+    }
+
+    /**
+     * Checks whether a queue is a work queue or a price partition queue, which have a parking lot.
+     */
+    public static boolean isWorkQueue(String queue) {
+        return WORK_QUEUES.contains(queue) || isPricePartitionQueue(queue);
+    }
+
+    /**
+     * Checks whether a queue is a price partition queue. Partitions retry in place and have
+     * a parking lot but no retry queues.
+     */
+    public static boolean isPricePartitionQueue(String queue) {
+        String partitionPrefix = PRODUCT_PRICE_CHANGED_QUEUE + PARTITION_QUEUE_SUFFIX;
+        return queue.startsWith(partitionPrefix) && queue.length() > partitionPrefix.length()
+                && queue.substring(partitionPrefix.length()).chars().allMatch(Character::isDigit);
+    }
+
+    static QueueBuilder workQueueBuilder(String queue) {
+        return QueueBuilder.durable(queue)
+                .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(queue);
+    }
+
+    private static Queue workQueue(String queue) {
+        return workQueueBuilder(queue).build();
+    }
+}
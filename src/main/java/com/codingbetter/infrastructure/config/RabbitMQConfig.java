@@ -1,52 +1,152 @@
 package com.codingbetter.infrastructure.config;
 
+import java.time.Duration;
+
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import lombok.extern.slf4j.Slf4j;
+
 @Configuration
+@Slf4j
 public class RabbitMQConfig {
 
+    private final Environment environment;
+
+    @Value("${product.listener.concurrency:1-4}")
+    private String defaultListenerConcurrency;
+
+    @Value("${product.listener.prefetch:25}")
+    private int defaultListenerPrefetch;
+
+    @Value("${product.listener.virtual-threads:false}")
+    private boolean listenerVirtualThreads;
+
+    public RabbitMQConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
         return new Jackson2JsonMessageConverter(objectMapper);
     }
 
+    /**
+     * Published events are only considered delivered once the broker confirms them, so
+     * startup fails when the connection factory does not have correlated confirms enabled
+     * (spring.rabbitmq.publisher-confirm-type=correlated); otherwise no confirm would ever
+     * complete and the outbox would resend the same batch forever.
+     */
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+        if (!connectionFactory.isPublisherConfirms()) {
+            throw new IllegalStateException("Publisher confirms are disabled, set spring.rabbitmq.publisher-confirm-type=correlated");
+        }
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(messageConverter);
         
-        // Enable publisher confirmations
+        // Confirms are matched to their messages through CorrelationData by RabbitMQPublishingPipeline,
+        // which retries nacks; this callback only records them
         rabbitTemplate.setConfirmCallback((correlationData, ack, cause) -> {
             if (!ack) {
-                // Logic to handle publishing failures
-                System.err.println("Failed to publish message: " + cause);
+                log.warn("Message {} nacked by broker: {}", correlationData != null ? correlationData.getId() : null, cause);
             }
         });
         
         return rabbitTemplate;
     }
 
+    /**
+     * Listener containers scale between a minimum and maximum number of consumers per queue:
+     * extra consumers start while messages keep arriving back to back and stop again when idle.
+     * Concurrency ("min-max") and prefetch default to product.listener.concurrency/prefetch and can
+     * be overridden per queue with product.listener.queues.&lt;queue-name&gt;.concurrency/prefetch.
+     * With product.listener.virtual-threads=true consumers run on virtual threads.
+     */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
             MessageConverter messageConverter) {
+        return createListenerContainerFactory(connectionFactory, messageConverter);
+    }
+
+    /**
+     * Container factory for batch listeners: deliveries are collected into a list of up to
+     * product.listener.batch.size messages, or whatever arrived within product.listener.batch.receive-timeout,
+     * and handed to the listener in a single call. Prefetch is raised to at least the batch size.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            @Value("${product.listener.batch.size:100}") int batchSize,
+            @Value("${product.listener.batch.receive-timeout:200ms}") Duration receiveTimeout) {
+        SimpleRabbitListenerContainerFactory factory = createListenerContainerFactory(connectionFactory, messageConverter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(receiveTimeout.toMillis());
+        factory.setContainerCustomizer(container -> customizeContainer(container, batchSize));
+        return factory;
+    }
+
+    private SimpleRabbitListenerContainerFactory createListenerContainerFactory(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter);
         
         // Settings to ensure reliable processing
         factory.setAcknowledgeMode(org.springframework.amqp.core.AcknowledgeMode.MANUAL);
-        factory.setPrefetchCount(1); // Process one message at a time
-        factory.setDefaultRequeueRejected(true); // Requeue rejected messages
+        factory.setDefaultRequeueRejected(false); // Rejected messages are dead-lettered, never requeued in place
         
+        if (listenerVirtualThreads) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("rabbit-listener-");
+            taskExecutor.setVirtualThreads(true);
+            factory.setTaskExecutor(taskExecutor);
+        }
+        factory.setContainerCustomizer(container -> customizeContainer(container, 1));
         return factory;
     }
-} 
\ No newline at end of file
+
+    private void customizeContainer(SimpleMessageListenerContainer container, int minPrefetch) {
+        String queue = container.getQueueNames()[0];
+        String concurrency = environment.getProperty("product.listener.queues." + queue + ".concurrency", defaultListenerConcurrency);
+        int prefetch = Math.max(minPrefetch,
+                environment.getProperty("product.listener.queues." + queue + ".prefetch", Integer.class, defaultListenerPrefetch));
+        applyConcurrency(container, concurrency);
+        container.setPrefetchCount(prefetch);
+        log.info("Listener container for {}: concurrency={}, prefetch={}, virtualThreads={}", queue, concurrency, prefetch, listenerVirtualThreads);
+    }
+
+    /**
+     * Applies a "min-max" (or fixed "n") concurrency expression, the same format as
+     * {@code @RabbitListener(concurrency = ...)}.
+     */
+    private static void applyConcurrency(SimpleMessageListenerContainer container, String concurrency) {
+        int separator = concurrency.indexOf('-');
+        if (separator < 0) {
+            int consumers = Integer.parseInt(concurrency.trim());
+            container.setMaxConcurrentConsumers(consumers);
+            container.setConcurrentConsumers(consumers);
+            return;
+        }
+        int minConsumers = Integer.parseInt(concurrency.substring(0, separator).trim());
+        int maxConsumers = Integer.parseInt(concurrency.substring(separator + 1).trim());
+        if (minConsumers < 1 || maxConsumers < minConsumers) {
+            throw new IllegalArgumentException("Invalid listener concurrency: " + concurrency);
+        }
+        container.setMaxConcurrentConsumers(maxConsumers);
+        container.setConcurrentConsumers(minConsumers);
+    }
+}
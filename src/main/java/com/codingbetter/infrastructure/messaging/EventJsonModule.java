@@ -0,0 +1,98 @@
+package com.codingbetter.infrastructure.messaging;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.UUID;
+
+import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDeactivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDiscontinuedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.Money;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson mappings of the product events, kept out of the domain model as mix-ins.
+ * Events are written through their getters and read back through their restoring
+ * constructors, so a consumed event keeps the id and time it was published with;
+ * the id is what consumers deduplicate redeliveries by.
+ */
+public class EventJsonModule extends SimpleModule {
+
+    public EventJsonModule() {
+        super("EventJsonModule");
+        setMixInAnnotation(ProductId.class, ProductIdMixin.class);
+        setMixInAnnotation(Money.class, MoneyMixin.class);
+        setMixInAnnotation(ProductActivatedEvent.class, ProductActivatedEventMixin.class);
+        setMixInAnnotation(ProductDeactivatedEvent.class, ProductDeactivatedEventMixin.class);
+        setMixInAnnotation(ProductDiscontinuedEvent.class, ProductDiscontinuedEventMixin.class);
+        setMixInAnnotation(ProductPriceChangedEvent.class, ProductPriceChangedEventMixin.class);
+    }
+
+    // getValue() returns the id itself, so only the uuid is written
+    @JsonAutoDetect(fieldVisibility = Visibility.ANY)
+    @JsonIgnoreProperties({"value"})
+    abstract static class ProductIdMixin {
+
+        @JsonCreator
+        ProductIdMixin(@JsonProperty("uuid") UUID value) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class MoneyMixin {
+
+        @JsonCreator
+        MoneyMixin(@JsonProperty("amount") BigDecimal amount, @JsonProperty("currency") Currency currency) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class ProductActivatedEventMixin {
+
+        @JsonCreator
+        ProductActivatedEventMixin(@JsonProperty("id") UUID id,
+                                   @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                                   @JsonProperty("productId") ProductId productId) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class ProductDeactivatedEventMixin {
+
+        @JsonCreator
+        ProductDeactivatedEventMixin(@JsonProperty("id") UUID id,
+                                     @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                                     @JsonProperty("productId") ProductId productId) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class ProductDiscontinuedEventMixin {
+
+        @JsonCreator
+        ProductDiscontinuedEventMixin(@JsonProperty("id") UUID id,
+                                      @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                                      @JsonProperty("productId") ProductId productId) {
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class ProductPriceChangedEventMixin {
+
+        @JsonCreator
+        ProductPriceChangedEventMixin(@JsonProperty("id") UUID id,
+                                      @JsonProperty("occurredOn") LocalDateTime occurredOn,
+                                      @JsonProperty("productId") ProductId productId,
+                                      @JsonProperty("oldPrice") Money oldPrice,
+                                      @JsonProperty("newPrice") Money newPrice) {
+        }
+    }
+}
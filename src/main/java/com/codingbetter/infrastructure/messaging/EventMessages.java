@@ -0,0 +1,37 @@
+package com.codingbetter.infrastructure.messaging;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Builds AMQP messages for already serialized events, so they are sent as-is
+ * instead of going through the template's message converter a second time.
+ */
+public final class EventMessages {
+
+    private EventMessages() {
+    }
+
+    /**
+     * Wraps a JSON document in a persistent message with JSON content headers.
+     *
+     * @param json The serialized event, UTF-8 encoded
+     * @param messageId The event id, also used as AMQP message id
+     * @param eventType The event class name, set as the AMQP type property
+     * @return The message to send
+     */
+    public static Message json(byte[] json, String messageId, String eventType) {
+        return MessageBuilder.withBody(json)
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setContentLength(json.length)
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(messageId)
+                .setType(eventType)
+                .build();
+    }
+}
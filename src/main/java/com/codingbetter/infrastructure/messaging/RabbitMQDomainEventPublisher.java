@@ -1,19 +1,13 @@
 package com.codingbetter.infrastructure.messaging;
 
-import jakarta.annotation.PostConstruct;
-
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.event.ProductEvent;
 import com.codingbetter.domain.shared.event.DomainEvent;
 import com.codingbetter.domain.shared.event.DomainEventPublisher;
 import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
-import com.codingbetter.infrastructure.messaging.strategy.EventRoutingStrategy;
 import com.codingbetter.infrastructure.messaging.strategy.EventRoutingStrategyFactory;
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -22,38 +16,41 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Implementation of DomainEventPublisher that publishes events to RabbitMQ.
  * Uses the Strategy pattern to determine the routing key for each event type.
+ * Events are handed to the {@link RabbitMQPublishingPipeline}, so the caller does not
+ * wait for the broker; delivery failures are logged by the pipeline.
+ * By default the event is serialized once, straight to bytes, and sent as a raw JSON
+ * message; with product.publisher.raw-json=false it is sent as a JSON string through
+ * the message converter, as before.
  */
 @Component
 @Slf4j
 public class RabbitMQDomainEventPublisher implements DomainEventPublisher {
     
-    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQPublishingPipeline publishingPipeline;
     private final ObjectMapper objectMapper;
     private final EventRoutingStrategyFactory routingStrategyFactory;
+    private final boolean rawJson;
     
-    public RabbitMQDomainEventPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, EventRoutingStrategyFactory routingStrategyFactory) {
-        this.rabbitTemplate = rabbitTemplate;
+    public RabbitMQDomainEventPublisher(RabbitMQPublishingPipeline publishingPipeline, ObjectMapper objectMapper, EventRoutingStrategyFactory routingStrategyFactory,
+                                        @Value("${product.publisher.raw-json:true}") boolean rawJson) {
+        this.publishingPipeline = publishingPipeline;
         this.objectMapper = objectMapper;
         this.routingStrategyFactory = routingStrategyFactory;
+        this.rawJson = rawJson;
     }
     
-    @PostConstruct
-    public void init() {
-        objectMapper.addMixIn(ProductId.class, ProductIdMixin.class);
-    }
-    
-    @JsonAutoDetect(fieldVisibility = Visibility.ANY)
-    @JsonIgnoreProperties({"value"})
-    abstract static class ProductIdMixin {}
-    
     @Override
     public void publish(DomainEvent event) {
         log.info("Publishing domain event: {} with ID: {} occurred at: {}", event.getClass().getSimpleName(), event.getId(), event.getOccurredOn());
         try {
-            String message = objectMapper.writeValueAsString(event);
             String routingKey = determineRoutingKey(event);
-            rabbitTemplate.convertAndSend(ProductRabbitMQConfig.EXCHANGE_NAME, routingKey, message);
-            log.info("Event published to RabbitMQ: exchange={}, routingKey={}", ProductRabbitMQConfig.EXCHANGE_NAME, routingKey);
+            String messageId = event.getId().toString();
+            Object message = rawJson
+                    ? EventMessages.json(objectMapper.writeValueAsBytes(event), messageId, event.getClass().getName())
+                    : objectMapper.writeValueAsString(event);
+            String productId = event instanceof ProductEvent productEvent ? productEvent.getProductId().getUuid().toString() : null;
+            publishingPipeline.submit(routingKey, message, messageId, productId);
+            log.info("Event queued for RabbitMQ: exchange={}, routingKey={}", ProductRabbitMQConfig.EXCHANGE_NAME, routingKey);
         } catch (JsonProcessingException e) {
             log.error("Error serializing domain event", e);
             throw new RuntimeException("Error serializing domain event", e);
@@ -61,11 +58,6 @@ public class RabbitMQDomainEventPublisher implements DomainEventPublisher {
     }
     
     private String determineRoutingKey(DomainEvent event) {
-        EventRoutingStrategy strategy = routingStrategyFactory.getStrategy(event);
-        
-        if (strategy == null) {
-            throw new RuntimeException("Unknown event type: " + event.getClass().getName());
-        }
-        return strategy.getRoutingKey(event);
+        return routingStrategyFactory.getStrategy(event).getRoutingKey(event);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,315 @@
+package com.codingbetter.infrastructure.messaging;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous publisher to the product exchange.
+ * submit() only places the message in a bounded buffer; a dedicated sender thread drains it
+ * in batches, sending each batch on a single channel. Every message carries its own
+ * CorrelationData, and the returned future completes once the broker confirms it.
+ * A message not confirmed within product.publisher.confirm-timeout counts as failed.
+ * The sender waits for the confirms of a batch and resends its nacked, late or unsendable
+ * messages, in their original order, before it takes new work from the buffer, so later
+ * submits never overtake them. After product.publisher.max-attempts their future fails.
+ * Messages sharing an ordering key, the product they belong to, stay in order: once one is
+ * not confirmed, the later ones of that key in the batch are sent again after it even if
+ * they were confirmed, and fail along with it when its attempts are exhausted.
+ *
+ * Metrics: product.publisher.buffered, product.publisher.in-flight (sent, awaiting confirm),
+ * product.publisher.rejected (submits refused because the buffer stayed full or the pipeline is stopped),
+ * product.publisher.retries and product.publisher.failures.
+ */
+@Component
+@Slf4j
+public class RabbitMQPublishingPipeline implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<OutgoingMessage> buffer;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration enqueueTimeout;
+    private final Duration confirmTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private final Counter retries;
+    private final Counter failures;
+    private volatile boolean running;
+    private Thread sender;
+
+    public RabbitMQPublishingPipeline(RabbitTemplate rabbitTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${product.publisher.buffer-size:8192}") int bufferSize,
+                                      @Value("${product.publisher.batch-size:256}") int batchSize,
+                                      @Value("${product.publisher.max-attempts:3}") int maxAttempts,
+                                      @Value("${product.publisher.enqueue-timeout:100ms}") Duration enqueueTimeout,
+                                      @Value("${product.publisher.confirm-timeout:1s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.enqueueTimeout = enqueueTimeout;
+        this.confirmTimeout = confirmTimeout;
+        Gauge.builder("product.publisher.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("product.publisher.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        this.rejected = meterRegistry.counter("product.publisher.rejected");
+        this.retries = meterRegistry.counter("product.publisher.retries");
+        this.failures = meterRegistry.counter("product.publisher.failures");
+    }
+
+    /**
+     * Queues a message for publishing to the product exchange.
+     * Blocks for at most product.publisher.enqueue-timeout while the buffer is full.
+     *
+     * @param routingKey The routing key
+     * @param payload The message body, converted by the template's message converter
+     * @param messageId The id used to correlate the publisher confirm
+     * @param orderingKey The product the message belongs to, null if it need not stay in order with others
+     * @return A future completed when the broker confirms the message, or failed once retries are exhausted
+     * @throws AmqpException if the pipeline is stopped or the buffer stayed full
+     */
+    public CompletableFuture<Void> submit(String routingKey, Object payload, String messageId, String orderingKey) {
+        if (!running) {
+            rejected.increment();
+            throw new AmqpException("Publishing pipeline is stopped, message " + messageId + " rejected");
+        }
+        OutgoingMessage message = new OutgoingMessage(routingKey, payload, messageId, orderingKey);
+        try {
+            if (!buffer.offer(message, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new AmqpException("Publishing buffer is full, message " + messageId + " rejected");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while queueing message " + messageId, e);
+        }
+        return message.confirmed;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private void sendLoop() {
+        while (running || !buffer.isEmpty()) {
+            try {
+                List<OutgoingMessage> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    send(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits briefly for a first message, then takes whatever else is buffered, up to the batch size.
+     */
+    List<OutgoingMessage> nextBatch() throws InterruptedException {
+        OutgoingMessage first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<OutgoingMessage> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        buffer.drainTo(batch, batchSize - 1);
+        return batch;
+    }
+
+    /**
+     * Sends a batch and waits for its confirms, resending the messages that were not
+     * confirmed until they are or their attempts are exhausted.
+     */
+    void send(List<OutgoingMessage> batch) {
+        List<OutgoingMessage> pending = batch;
+        while (!pending.isEmpty()) {
+            List<OutgoingMessage> unconfirmed = attempt(pending);
+            pending = new ArrayList<>(unconfirmed.size());
+            Set<String> failedKeys = new HashSet<>();
+            for (OutgoingMessage message : unconfirmed) {
+                if (message.orderingKey != null && failedKeys.contains(message.orderingKey)) {
+                    message.failure = "an earlier message of " + message.orderingKey + " was not confirmed";
+                    fail(message);
+                } else if (++message.attempts < maxAttempts) {
+                    retries.increment();
+                    log.debug("Retrying message {} (attempt {}): {}", message.messageId, message.attempts + 1, message.failure);
+                    pending.add(message);
+                } else {
+                    fail(message);
+                    if (message.orderingKey != null) {
+                        failedKeys.add(message.orderingKey);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the messages on one channel and settles them by their confirms. A confirmed
+     * message whose ordering key already has an unconfirmed one is not settled but returned
+     * with it, so it is sent again after that one.
+     *
+     * @return The messages that were not confirmed or held back, in batch order
+     */
+    private List<OutgoingMessage> attempt(List<OutgoingMessage> batch) {
+        int[] dispatched = {0};
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (OutgoingMessage message : batch) {
+                    dispatch(operations, message);
+                    dispatched[0]++;
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            log.warn("Failed to send {} of {} messages: {}", batch.size() - dispatched[0], batch.size(), e.getMessage());
+            batch.subList(dispatched[0], batch.size()).forEach(message -> message.failure = e.getMessage());
+        }
+        List<OutgoingMessage> unconfirmed = new ArrayList<>();
+        Set<String> blockedKeys = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutgoingMessage message = batch.get(i);
+            boolean acked = i < dispatched[0] && awaitConfirm(message);
+            if (message.orderingKey != null && blockedKeys.contains(message.orderingKey)) {
+                if (acked) {
+                    message.failure = "confirmed after an unconfirmed message of " + message.orderingKey;
+                }
+                unconfirmed.add(message);
+            } else if (acked) {
+                message.confirmed.complete(null);
+            } else {
+                unconfirmed.add(message);
+                if (message.orderingKey != null) {
+                    blockedKeys.add(message.orderingKey);
+                }
+            }
+        }
+        return unconfirmed;
+    }
+
+    private void dispatch(RabbitOperations operations, OutgoingMessage message) {
+        message.correlationData = new CorrelationData(message.messageId);
+        message.confirmDeadline = System.nanoTime() + confirmTimeout.toNanos();
+        inFlight.incrementAndGet();
+        try {
+            operations.convertAndSend(ProductRabbitMQConfig.EXCHANGE_NAME, message.routingKey, message.payload, message.correlationData);
+        } catch (AmqpException e) {
+            // Never reached the channel, so no confirm will come for it
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until the message's confirm arrives or its deadline passes.
+     *
+     * @return true if the broker acked the message
+     */
+    private boolean awaitConfirm(OutgoingMessage message) {
+        try {
+            long remaining = Math.max(0, message.confirmDeadline - System.nanoTime());
+            CorrelationData.Confirm confirm = message.correlationData.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+            if (confirm.isAck()) {
+                return true;
+            }
+            message.failure = confirm.getReason();
+        } catch (TimeoutException e) {
+            message.failure = "no confirm within " + confirmTimeout;
+        } catch (ExecutionException e) {
+            message.failure = e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            message.failure = "interrupted while awaiting the confirm";
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        return false;
+    }
+
+    private void fail(OutgoingMessage message) {
+        failures.increment();
+        log.error("Message {} was not confirmed after {} attempts: {}", message.messageId, message.attempts, message.failure);
+        message.confirmed.completeExceptionally(new AmqpException("Message " + message.messageId + " was not confirmed: " + message.failure));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        sender = new Thread(this::sendLoop, "rabbitmq-publisher");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    /**
+     * Stops accepting new work and lets the sender drain what is already buffered.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (sender == null) {
+            return;
+        }
+        try {
+            sender.join(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    static final class OutgoingMessage {
+        private final String routingKey;
+        private final Object payload;
+        private final String messageId;
+        private final String orderingKey;
+        private final CompletableFuture<Void> confirmed = new CompletableFuture<>();
+        private CorrelationData correlationData;
+        private long confirmDeadline;
+        private int attempts;
+        private String failure;
+
+        OutgoingMessage(String routingKey, Object payload, String messageId, String orderingKey) {
+            this.routingKey = routingKey;
+            this.payload = payload;
+            this.messageId = messageId;
+            this.orderingKey = orderingKey;
+        }
+
+        CompletableFuture<Void> confirmed() {
+            return confirmed;
+        }
+    }
+}
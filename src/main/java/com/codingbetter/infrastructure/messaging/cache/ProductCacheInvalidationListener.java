@@ -0,0 +1,33 @@
+package com.codingbetter.infrastructure.messaging.cache;
+
+import java.util.UUID;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.persistence.adapter.CachingProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts products from the local cache when any instance (including this one) saves them.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheInvalidationListener {
+
+    private final CachingProductRepository cachingProductRepository;
+
+    public ProductCacheInvalidationListener(CachingProductRepository cachingProductRepository) {
+        this.cachingProductRepository = cachingProductRepository;
+    }
+
+    @RabbitListener(queues = "#{productCacheInvalidationQueue.name}", ackMode = "AUTO")
+    public void handleInvalidation(String productId) {
+        log.debug("Evicting product {} from local cache", productId);
+        cachingProductRepository.evict(new ProductId(UUID.fromString(productId)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.codingbetter.infrastructure.messaging.cache;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts product cache invalidations to every instance bound to the product exchange.
+ * The message body is only the product id, keeping the fan-out as small as possible.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheInvalidationPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public ProductCacheInvalidationPublisher(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * Notifies all peers that the given product changed.
+     * A failed broadcast does not fail the write: peers fall back to the cache TTL.
+     *
+     * @param productId The product whose cached entry must be evicted
+     */
+    public void broadcast(ProductId productId) {
+        try {
+            rabbitTemplate.convertAndSend(ProductRabbitMQConfig.EXCHANGE_NAME,
+                    ProductRabbitMQConfig.PRODUCT_CACHE_INVALIDATION_ROUTING_KEY,
+                    productId.getUuid().toString());
+        } catch (AmqpException e) {
+            log.warn("Could not broadcast cache invalidation for product {}", productId.getUuid(), e);
+        }
+    }
+}
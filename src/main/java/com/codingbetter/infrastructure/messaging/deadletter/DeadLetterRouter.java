@@ -0,0 +1,108 @@
+package com.codingbetter.infrastructure.messaging.deadletter;
+
+import static com.codingbetter.infrastructure.config.ProductRabbitMQConfig.DEAD_LETTER_QUEUE_SUFFIX;
+import static com.codingbetter.infrastructure.config.ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+import com.rabbitmq.client.Channel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves dead-lettered messages on: to the retry queue of their next attempt, whose TTL
+ * delays the redelivery to the work queue, or to the parking lot once attempts are exhausted.
+ * A failing message therefore costs one delivery per backoff step instead of spinning
+ * in a requeue loop. The dead-lettered message is only acked once the broker confirmed
+ * its copy; otherwise it is requeued in the dead-letter queue.
+ */
+@Component
+@Slf4j
+public class DeadLetterRouter {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final int maxAttempts;
+    private final Duration confirmTimeout;
+
+    public DeadLetterRouter(RabbitTemplate rabbitTemplate,
+                            @Value("${product.messaging.retry.max-attempts:3}") int maxAttempts,
+                            @Value("${product.publisher.confirm-timeout:1s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxAttempts = maxAttempts;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @RabbitListener(queues = {
+            ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE + DEAD_LETTER_QUEUE_SUFFIX,
+            ProductRabbitMQConfig.PRODUCT_DEACTIVATED_QUEUE + DEAD_LETTER_QUEUE_SUFFIX,
+            ProductRabbitMQConfig.PRODUCT_DISCONTINUED_QUEUE + DEAD_LETTER_QUEUE_SUFFIX,
+            ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_QUEUE + DEAD_LETTER_QUEUE_SUFFIX
+    })
+    public void route(Message message, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag) throws Exception {
+        MessageProperties properties = message.getMessageProperties();
+        // Work queues dead-letter with their own name as routing key
+        String queue = properties.getReceivedRoutingKey();
+        int attempt = retryCount(properties) + 1;
+        try {
+            if (ProductRabbitMQConfig.isPricePartitionQueue(queue)) {
+                // Partitions retry in place, a message they reject is not retried again
+                log.error("Message {} rejected by partition {}, parking it", properties.getMessageId(), queue);
+                sendConfirmed(queue + PARKING_LOT_QUEUE_SUFFIX, message);
+            } else if (attempt > maxAttempts) {
+                log.error("Message {} from {} failed {} retries, parking it", properties.getMessageId(), queue, maxAttempts);
+                sendConfirmed(queue + PARKING_LOT_QUEUE_SUFFIX, message);
+            } else {
+                log.warn("Message {} from {} failed, retry {} of {}", properties.getMessageId(), queue, attempt, maxAttempts);
+                properties.setHeader(RETRY_COUNT_HEADER, attempt);
+                sendConfirmed(ProductRabbitMQConfig.retryQueue(queue, attempt), message);
+            }
+            channel.basicAck(tag, false);
+        } catch (Exception e) {
+            // The copy was not confirmed; keep the message in the dead-letter queue
+            log.error("Error routing dead-lettered message {}", properties.getMessageId(), e);
+            channel.basicNack(tag, false, true);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the message to a queue through the default exchange and waits for its confirm.
+     *
+     * @throws AmqpException if the broker nacked or returned the message, or did not confirm it in time
+     */
+    private void sendConfirmed(String queue, Message message) throws InterruptedException {
+        CorrelationData correlationData = new CorrelationData();
+        rabbitTemplate.send("", queue, message, correlationData);
+        CorrelationData.Confirm confirm;
+        try {
+            confirm = correlationData.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new AmqpException("No confirm for the copy sent to " + queue, e);
+        }
+        if (!confirm.isAck() || correlationData.getReturned() != null) {
+            throw new AmqpException("Copy sent to " + queue + " was not accepted: " + confirm.getReason());
+        }
+    }
+
+    private static int retryCount(MessageProperties properties) {
+        Object retryCount = properties.getHeader(RETRY_COUNT_HEADER);
+        return retryCount instanceof Number number ? number.intValue() : 0;
+    }
+}
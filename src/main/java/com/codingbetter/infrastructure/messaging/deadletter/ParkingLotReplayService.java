@@ -0,0 +1,99 @@
+package com.codingbetter.infrastructure.messaging.deadletter;
+
+import static com.codingbetter.infrastructure.config.ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+import com.codingbetter.application.usecase.ReplayParkedMessagesUseCase;
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import com.rabbitmq.client.ShutdownSignalException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves parked messages back to their work queue with a fresh retry budget,
+ * typically once the cause of the failures has been fixed. Each message is fetched
+ * without auto-ack, republished and only acked from the parking lot once the broker
+ * confirmed the copy, all on one channel, so a failed replay leaves it parked.
+ */
+@Service
+@Slf4j
+public class ParkingLotReplayService implements ReplayParkedMessagesUseCase {
+
+    private static final long CONFIRM_TIMEOUT_MILLIS = 5000;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public ParkingLotReplayService(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Override
+    public int replay(String queue, int limit) {
+        if (!ProductRabbitMQConfig.isWorkQueue(queue)) {
+            throw new IllegalArgumentException("Unknown queue: " + queue);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must not be less than one");
+        }
+        String parkingLot = queue + PARKING_LOT_QUEUE_SUFFIX;
+        Integer replayed = rabbitTemplate.execute(channel -> {
+            int count = 0;
+            while (count < limit) {
+                GetResponse response = channel.basicGet(parkingLot, false);
+                if (response == null) {
+                    break;
+                }
+                long deliveryTag = response.getEnvelope().getDeliveryTag();
+                try {
+                    channel.basicPublish("", queue, withoutRetryCount(response.getProps()), response.getBody());
+                    channel.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+                } catch (IOException | TimeoutException | ShutdownSignalException e) {
+                    leaveParked(channel, deliveryTag, parkingLot, e);
+                    throw new AmqpException("Replay from " + parkingLot + " failed after " + count + " messages", e);
+                }
+                channel.basicAck(deliveryTag, false);
+                count++;
+            }
+            return count;
+        });
+        log.info("Replayed {} parked messages to {}", replayed, queue);
+        return replayed;
+    }
+
+    /**
+     * Returns the message to the parking lot. waitForConfirmsOrDie closes the channel when the
+     * confirm is missing or negative; the broker then requeues the unacked message itself.
+     */
+    private static void leaveParked(Channel channel, long deliveryTag, String parkingLot, Exception cause) {
+        if (!channel.isOpen()) {
+            log.warn("Channel closed during replay from {}, the broker requeues message {}", parkingLot, deliveryTag);
+            return;
+        }
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (IOException | ShutdownSignalException e) {
+            cause.addSuppressed(e);
+            log.warn("Could not return message {} to {}, the broker requeues it once the channel closes", deliveryTag, parkingLot, e);
+        }
+    }
+
+    private static AMQP.BasicProperties withoutRetryCount(AMQP.BasicProperties properties) {
+        if (properties.getHeaders() == null) {
+            return properties;
+        }
+        Map<String, Object> headers = new HashMap<>(properties.getHeaders());
+        headers.remove(DeadLetterRouter.RETRY_COUNT_HEADER);
+        return properties.builder().headers(headers).build();
+    }
+}
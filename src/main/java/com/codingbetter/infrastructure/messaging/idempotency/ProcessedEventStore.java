@@ -0,0 +1,90 @@
+package com.codingbetter.infrastructure.messaging.idempotency;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.shared.event.DomainEvent;
+import com.codingbetter.infrastructure.persistence.entity.ProcessedEventEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency layer for event consumers.
+ * Consumers claim events in the processed_events collection before processing them, inside
+ * their transaction, so the record commits together with the effects of processing and a
+ * rollback releases the claim. A claim is an upsert that only inserts: an event recorded
+ * earlier shows up as a match, without a write error and without its processing running
+ * again. Claiming a batch is a single ordered bulk write, whether its events are new or not.
+ */
+@Component
+@Slf4j
+public class ProcessedEventStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ProcessedEventStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Claims a single event, see {@link #claim(List)}.
+     *
+     * @return false if the event was already processed
+     */
+    public boolean claim(DomainEvent event) {
+        return !claim(List.of(event)).isEmpty();
+    }
+
+    /**
+     * Records events as processed before processing them. Must run in the transaction that
+     * applies their effects.
+     *
+     * @param events Consumed events
+     * @return The events this consumer claimed and must process, in their original order;
+     *         events already processed and repeated ids are dropped
+     */
+    public <T extends DomainEvent> List<T> claim(List<T> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        Instant now = Instant.now();
+        BulkOperations claims = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ProcessedEventEntity.class);
+        events.forEach(event -> claims.upsert(
+                Query.query(Criteria.where("id").is(event.getId().toString())),
+                new Update()
+                        .setOnInsert("eventType", event.getClass().getSimpleName())
+                        .setOnInsert("processedAt", now)));
+        Set<Integer> inserted = new HashSet<>();
+        claims.execute().getUpserts().forEach(upsert -> inserted.add(upsert.getIndex()));
+        if (inserted.size() < events.size()) {
+            log.info("{} events were already recorded as processed", events.size() - inserted.size());
+        }
+        return IntStream.range(0, events.size())
+                .filter(inserted::contains)
+                .mapToObj(events::get)
+                .toList();
+    }
+
+    /**
+     * Releases the claims of events whose processing failed, so their redelivery is processed.
+     * Must run in the transaction that claimed them.
+     */
+    public void release(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<String> ids = events.stream().map(event -> event.getId().toString()).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("id").in(ids)), ProcessedEventEntity.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.codingbetter.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Merges the price changes of a product that occur within a window into one event,
+ * carrying the oldPrice of the first change and everything else from the last one.
+ * A product's first pending price change is held back until the window has elapsed, and
+ * with it every later event of that product, so per-product order is preserved. Any other
+ * event of the product ends the window. Opt-in through product.publisher.coalescing.enabled;
+ * when disabled every outbox message is relayed on its own.
+ */
+@Component
+@Slf4j
+public class OutboxCoalescer {
+
+    private static final String PRICE_CHANGED_EVENT_TYPE = ProductPriceChangedEvent.class.getName();
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration window;
+
+    public OutboxCoalescer(ObjectMapper objectMapper,
+                           @Value("${product.publisher.coalescing.enabled:false}") boolean enabled,
+                           @Value("${product.publisher.coalescing.window:300ms}") Duration window) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.window = window;
+    }
+
+    /**
+     * A message to relay, standing for one or more outbox messages.
+     *
+     * @param ids The outbox messages it replaces, removed once it is confirmed
+     * @param id The message id, that of the last replaced event
+     * @param aggregateId The product the event belongs to, null for other events
+     */
+    record Outgoing(List<String> ids, String id, String aggregateId, String routingKey, String eventType, String payload) {
+
+        static Outgoing of(OutboxMessageEntity message) {
+            return new Outgoing(List.of(message.getId()), message.getId(), message.getAggregateId(), message.getRoutingKey(), message.getEventType(), message.getPayload());
+        }
+    }
+
+    /**
+     * Plans the messages to relay for a batch read from the outbox.
+     *
+     * @param messages Outbox messages, oldest first
+     * @param now The relay time, against which windows are checked
+     * @return The messages to relay, in order; held back messages are left out
+     */
+    List<Outgoing> coalesce(List<OutboxMessageEntity> messages, Instant now) {
+        if (!enabled) {
+            return messages.stream().map(Outgoing::of).toList();
+        }
+        List<Outgoing> outgoing = new ArrayList<>(messages.size());
+        List<PriceGroup> groups = new ArrayList<>();
+        Map<String, PriceGroup> openGroups = new HashMap<>();
+        Set<String> heldBack = new HashSet<>();
+        for (OutboxMessageEntity message : messages) {
+            String aggregateId = message.getAggregateId();
+            if (aggregateId == null) {
+                outgoing.add(Outgoing.of(message));
+                continue;
+            }
+            if (heldBack.contains(aggregateId)) {
+                continue;
+            }
+            if (!PRICE_CHANGED_EVENT_TYPE.equals(message.getEventType())) {
+                openGroups.remove(aggregateId);
+                outgoing.add(Outgoing.of(message));
+                continue;
+            }
+            PriceGroup group = openGroups.get(aggregateId);
+            if (group != null && !message.getCreatedAt().isAfter(group.closesAt)) {
+                group.messages.add(message);
+                continue;
+            }
+            if (message.getCreatedAt().plus(window).isAfter(now)) {
+                // The window is still open: hold the product back until the next run
+                openGroups.remove(aggregateId);
+                heldBack.add(aggregateId);
+                continue;
+            }
+            group = new PriceGroup(message.getCreatedAt().plus(window), outgoing.size());
+            group.messages.add(message);
+            openGroups.put(aggregateId, group);
+            groups.add(group);
+            // Placeholder, replaced by the merged message once the group is complete
+            outgoing.add(null);
+        }
+        groups.forEach(completed -> outgoing.set(completed.position, merge(completed.messages)));
+        return outgoing;
+    }
+
+    private Outgoing merge(List<OutboxMessageEntity> messages) {
+        OutboxMessageEntity first = messages.get(0);
+        OutboxMessageEntity last = messages.get(messages.size() - 1);
+        if (messages.size() == 1) {
+            return Outgoing.of(first);
+        }
+        try {
+            ObjectNode merged = (ObjectNode) objectMapper.readTree(last.getPayload());
+            merged.set("oldPrice", objectMapper.readTree(first.getPayload()).get("oldPrice"));
+            log.debug("Coalesced {} price changes of product {} into event {}", messages.size(), last.getAggregateId(), last.getId());
+            return new Outgoing(messages.stream().map(OutboxMessageEntity::getId).toList(),
+                    last.getId(), last.getAggregateId(), last.getRoutingKey(), last.getEventType(), objectMapper.writeValueAsString(merged));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot coalesce outbox messages " + first.getId() + ".." + last.getId(), e);
+        }
+    }
+
+    private static final class PriceGroup {
+
+        private final Instant closesAt;
+        private final int position;
+        private final List<OutboxMessageEntity> messages = new ArrayList<>();
+
+        private PriceGroup(Instant closesAt, int position) {
+            this.closesAt = closesAt;
+            this.position = position;
+        }
+    }
+}
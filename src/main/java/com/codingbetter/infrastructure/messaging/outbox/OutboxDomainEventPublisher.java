@@ -0,0 +1,106 @@
+package com.codingbetter.infrastructure.messaging.outbox;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.codingbetter.domain.catalog.product.event.ProductEvent;
+import com.codingbetter.domain.shared.event.DomainEvent;
+import com.codingbetter.domain.shared.event.DomainEventPublisher;
+import com.codingbetter.infrastructure.messaging.strategy.EventRoutingStrategyFactory;
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DomainEventPublisher that stores events in the outbox collection instead of sending them
+ * to RabbitMQ. When called inside a transaction the insert joins it, so the event is stored
+ * if and only if the aggregate change is. {@link OutboxRelay} forwards them to the broker.
+ * Within a transaction the messages are collected and written with a single insertMany
+ * just before it commits, so a bulk write stores all its events in one round trip.
+ */
+@Component
+@Primary
+@Slf4j
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final EventRoutingStrategyFactory routingStrategyFactory;
+
+    public OutboxDomainEventPublisher(MongoTemplate mongoTemplate, ObjectMapper objectMapper, EventRoutingStrategyFactory routingStrategyFactory) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.routingStrategyFactory = routingStrategyFactory;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        log.debug("Storing domain event in outbox: {} with ID: {}", event.getClass().getSimpleName(), event.getId());
+        OutboxMessageEntity message = toOutboxMessage(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            pendingMessages().add(message);
+        } else {
+            mongoTemplate.insert(message);
+        }
+    }
+
+    private OutboxMessageEntity toOutboxMessage(DomainEvent event) {
+        try {
+            return OutboxMessageEntity.builder()
+                .id(event.getId().toString())
+                .eventType(event.getClass().getName())
+                .routingKey(determineRoutingKey(event))
+                .aggregateId(event instanceof ProductEvent productEvent ? productEvent.getProductId().getUuid().toString() : null)
+                .payload(objectMapper.writeValueAsString(event))
+                .occurredOn(event.getOccurredOn())
+                .createdAt(Instant.now())
+                .build();
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing domain event", e);
+            throw new RuntimeException("Error serializing domain event", e);
+        }
+    }
+
+    /**
+     * The messages of the current transaction. Looked up among its synchronizations, which
+     * are suspended along with it, so a nested transaction collects its own messages.
+     */
+    private List<OutboxMessageEntity> pendingMessages() {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+            .filter(PendingMessages.class::isInstance)
+            .map(synchronization -> ((PendingMessages) synchronization).messages)
+            .findFirst()
+            .orElseGet(() -> {
+                PendingMessages pending = new PendingMessages();
+                TransactionSynchronizationManager.registerSynchronization(pending);
+                return pending.messages;
+            });
+    }
+
+    private String determineRoutingKey(DomainEvent event) {
+        return routingStrategyFactory.getStrategy(event).getRoutingKey(event);
+    }
+
+    private final class PendingMessages implements TransactionSynchronization {
+
+        private final List<OutboxMessageEntity> messages = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!messages.isEmpty()) {
+                mongoTemplate.insert(messages, OutboxMessageEntity.class);
+            }
+        }
+    }
+}
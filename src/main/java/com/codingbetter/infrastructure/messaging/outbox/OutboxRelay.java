@@ -0,0 +1,185 @@
+package com.codingbetter.infrastructure.messaging.outbox;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.infrastructure.messaging.EventMessages;
+import com.codingbetter.infrastructure.messaging.RabbitMQPublishingPipeline;
+import com.codingbetter.infrastructure.messaging.outbox.OutboxCoalescer.Outgoing;
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the outbox collection to the product exchange in batches, oldest first.
+ * A message is removed only after the broker confirmed it, so delivery is at-least-once:
+ * consumers may see an event again after a relay crash or an unconfirmed batch. A product's
+ * messages after an unconfirmed one are kept too, so its events are resent in order.
+ * A lease document makes a single instance relay at a time.
+ * Messages pass through the {@link OutboxCoalescer}, which may merge or hold some back.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "product.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final String LEASE_COLLECTION = "outbox_lease";
+    private static final String LEASE_ID = "outbox-relay";
+
+    private final MongoTemplate mongoTemplate;
+    private final RabbitMQPublishingPipeline publishingPipeline;
+    private final OutboxCoalescer coalescer;
+    private final int batchSize;
+    private final Duration confirmTimeout;
+    private final Duration leaseDuration;
+    private final boolean rawJson;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public OutboxRelay(MongoTemplate mongoTemplate,
+                       RabbitMQPublishingPipeline publishingPipeline,
+                       OutboxCoalescer coalescer,
+                       @Value("${product.outbox.batch-size:100}") int batchSize,
+                       @Value("${product.outbox.confirm-timeout:5s}") Duration confirmTimeout,
+                       @Value("${product.outbox.lease-duration:30s}") Duration leaseDuration,
+                       @Value("${product.publisher.raw-json:true}") boolean rawJson) {
+        this.mongoTemplate = mongoTemplate;
+        this.publishingPipeline = publishingPipeline;
+        this.coalescer = coalescer;
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.leaseDuration = leaseDuration;
+        this.rawJson = rawJson;
+    }
+
+    @Scheduled(fixedDelayString = "${product.outbox.poll-interval:500ms}")
+    public void relay() {
+        while (acquireLease() && relayBatch() == batchSize) {
+            // Keep draining while full batches come back
+        }
+    }
+
+    /**
+     * Hands one batch to the publishing pipeline and waits for its publisher confirms.
+     *
+     * @return The number of messages confirmed and removed from the outbox, less than
+     *         the batch size when some were held back for coalescing
+     */
+    int relayBatch() {
+        Query query = new Query()
+            .with(Sort.by("createdAt", "id"))
+            .limit(batchSize);
+        List<OutboxMessageEntity> messages = mongoTemplate.find(query, OutboxMessageEntity.class);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<Outgoing> outgoing = coalescer.coalesce(messages, Instant.now());
+        Map<Outgoing, CompletableFuture<Void>> pending = new LinkedHashMap<>();
+        try {
+            for (Outgoing message : outgoing) {
+                pending.put(message, publishingPipeline.submit(message.routingKey(), toPayload(message), message.id(), message.aggregateId()));
+            }
+        } catch (AmqpException e) {
+            log.warn("Outbox relay interrupted after {} of {} messages: {}", pending.size(), outgoing.size(), e.getMessage());
+        }
+        awaitConfirms(pending.values());
+
+        List<Outgoing> relayed = removable(pending);
+        List<String> confirmed = relayed.stream().flatMap(message -> message.ids().stream()).toList();
+        if (!confirmed.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(confirmed)), OutboxMessageEntity.class);
+        }
+        if (relayed.size() < outgoing.size()) {
+            log.warn("Outbox relay: {} of {} messages not confirmed, they will be retried", outgoing.size() - relayed.size(), outgoing.size());
+        }
+        return confirmed.size();
+    }
+
+    /**
+     * Selects the confirmed messages that can leave the outbox. Once a message of a product
+     * is not confirmed, the later messages of that product stay as well, so the next run
+     * sends them again after it rather than leaving it to overtake them.
+     */
+    private static List<Outgoing> removable(Map<Outgoing, CompletableFuture<Void>> pending) {
+        List<Outgoing> removable = new ArrayList<>(pending.size());
+        Set<String> blocked = new HashSet<>();
+        pending.forEach((message, confirmation) -> {
+            String aggregateId = message.aggregateId();
+            if (aggregateId != null && blocked.contains(aggregateId)) {
+                return;
+            }
+            if (isConfirmed(confirmation)) {
+                removable.add(message);
+            } else if (aggregateId != null) {
+                blocked.add(aggregateId);
+            }
+        });
+        return removable;
+    }
+
+    private Object toPayload(Outgoing message) {
+        return rawJson
+            ? EventMessages.json(message.payload().getBytes(StandardCharsets.UTF_8), message.id(), message.eventType())
+            : message.payload();
+    }
+
+    private void awaitConfirms(Collection<CompletableFuture<Void>> confirmations) {
+        try {
+            CompletableFuture.allOf(confirmations.toArray(CompletableFuture[]::new))
+                .get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed or late confirms are left in the outbox, see isConfirmed
+        }
+    }
+
+    private static boolean isConfirmed(CompletableFuture<Void> confirmation) {
+        return confirmation.isDone() && !confirmation.isCompletedExceptionally();
+    }
+
+    /**
+     * Takes or renews the relay lease. The upsert only matches a lease this instance already
+     * holds or one that expired; otherwise it tries to insert the lease document and fails
+     * on its unique id.
+     */
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID)
+            .orOperator(Criteria.where("owner").is(instanceId), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+            .set("owner", instanceId)
+            .set("expiresAt", now.plus(leaseDuration));
+        try {
+            mongoTemplate.upsert(query, update, LEASE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
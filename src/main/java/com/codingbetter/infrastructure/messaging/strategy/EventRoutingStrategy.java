@@ -7,13 +7,22 @@ import com.codingbetter.domain.shared.event.DomainEvent;
  */
 public interface EventRoutingStrategy {
     
+    /**
+     * Returns the event type this strategy routes, used to build the routing table at startup.
+     * 
+     * @return The handled event class (subclasses are routed by it too)
+     */
+    Class<? extends DomainEvent> getEventType();
+    
     /**
      * Checks if this strategy can handle the provided event.
      * 
      * @param event The event to be checked
      * @return true if this strategy can handle the event, false otherwise
      */
-    boolean canHandle(DomainEvent event);
+    default boolean canHandle(DomainEvent event) {
+        return getEventType().isInstance(event);
+    }
     
     /**
      * Determines the routing key for the provided event.
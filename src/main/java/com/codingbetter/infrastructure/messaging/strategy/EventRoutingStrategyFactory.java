@@ -1,8 +1,14 @@
 package com.codingbetter.infrastructure.messaging.strategy;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import com.codingbetter.domain.shared.event.DomainEvent;
 
@@ -10,30 +16,81 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Factory for obtaining the appropriate routing strategy for an event.
+ * Strategies are indexed by event type once, at startup; each event class is resolved
+ * the first time it is seen and cached in a {@link ClassValue}, so lookups on the publish
+ * path neither iterate nor allocate. Startup fails if a domain event has no strategy.
  */
 @Component
 @Slf4j
 public class EventRoutingStrategyFactory {
     
-    private final List<EventRoutingStrategy> strategies;
+    static final String DOMAIN_PACKAGE = "com.codingbetter.domain";
+    
+    private final Map<Class<? extends DomainEvent>, EventRoutingStrategy> strategiesByEventType;
+    private final ClassValue<EventRoutingStrategy> resolvedStrategies = new ClassValue<>() {
+        @Override
+        protected EventRoutingStrategy computeValue(Class<?> eventType) {
+            return resolve(eventType);
+        }
+    };
     
     public EventRoutingStrategyFactory(List<EventRoutingStrategy> strategies) {
-        this.strategies = strategies;
+        this(strategies, findDomainEventTypes());
+    }
+    
+    EventRoutingStrategyFactory(List<EventRoutingStrategy> strategies, Collection<Class<?>> domainEventTypes) {
+        Map<Class<? extends DomainEvent>, EventRoutingStrategy> byEventType = new HashMap<>();
+        strategies.forEach(strategy -> {
+            EventRoutingStrategy existing = byEventType.putIfAbsent(strategy.getEventType(), strategy);
+            if (existing != null) {
+                throw new IllegalStateException(String.format("Multiple routing strategies for %s: %s and %s",
+                        strategy.getEventType().getName(), existing.getClass().getSimpleName(), strategy.getClass().getSimpleName()));
+            }
+        });
+        this.strategiesByEventType = Map.copyOf(byEventType);
+        
+        List<String> unroutedEventTypes = domainEventTypes.stream()
+                .filter(eventType -> resolvedStrategies.get(eventType) == null)
+                .map(Class::getName)
+                .toList();
+        if (!unroutedEventTypes.isEmpty()) {
+            throw new IllegalStateException("No routing strategy found for domain events: " + unroutedEventTypes);
+        }
+        log.info("Routing strategies registered for {} event types", strategiesByEventType.size());
     }
     
     /**
      * Gets the appropriate routing strategy for the provided event.
      * 
      * @param event The event for which to get the strategy
-     * @return The routing strategy for the event, or null if no strategy is found
+     * @return The routing strategy for the event
+     * @throws IllegalArgumentException if no strategy handles the event type
      */
     public EventRoutingStrategy getStrategy(DomainEvent event) {
-        return strategies.stream()
-                .filter(strategy -> strategy.canHandle(event))
+        EventRoutingStrategy strategy = resolvedStrategies.get(event.getClass());
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown event type: " + event.getClass().getName());
+        }
+        return strategy;
+    }
+    
+    private EventRoutingStrategy resolve(Class<?> eventType) {
+        EventRoutingStrategy strategy = strategiesByEventType.get(eventType);
+        if (strategy != null) {
+            return strategy;
+        }
+        return strategiesByEventType.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(eventType))
+                .map(Map.Entry::getValue)
                 .findFirst()
-                .orElseGet(() -> {
-                    log.warn("No routing strategy found for event: {}", event.getClass().getName());
-                    return null;
-                });
+                .orElse(null);
+    }
+    
+    private static List<Class<?>> findDomainEventTypes() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(DomainEvent.class));
+        return scanner.findCandidateComponents(DOMAIN_PACKAGE).stream()
+                .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), EventRoutingStrategyFactory.class.getClassLoader()))
+                .toList();
     }
-} 
\ No newline at end of file
+}
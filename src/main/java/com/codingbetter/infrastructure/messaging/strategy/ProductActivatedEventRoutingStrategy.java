@@ -13,8 +13,8 @@ import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
 public class ProductActivatedEventRoutingStrategy implements EventRoutingStrategy {
 
     @Override
-    public boolean canHandle(DomainEvent event) {
-        return event instanceof ProductActivatedEvent;
+    public Class<ProductActivatedEvent> getEventType() {
+        return ProductActivatedEvent.class;
     }
 
     @Override
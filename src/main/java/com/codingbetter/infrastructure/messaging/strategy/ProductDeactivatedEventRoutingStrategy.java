@@ -13,8 +13,8 @@ import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
 public class ProductDeactivatedEventRoutingStrategy implements EventRoutingStrategy {
 
     @Override
-    public boolean canHandle(DomainEvent event) {
-        return event instanceof ProductDeactivatedEvent;
+    public Class<ProductDeactivatedEvent> getEventType() {
+        return ProductDeactivatedEvent.class;
     }
 
     @Override
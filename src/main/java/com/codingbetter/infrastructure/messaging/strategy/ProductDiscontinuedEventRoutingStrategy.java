@@ -13,8 +13,8 @@ import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
 public class ProductDiscontinuedEventRoutingStrategy implements EventRoutingStrategy {
 
     @Override
-    public boolean canHandle(DomainEvent event) {
-        return event instanceof ProductDiscontinuedEvent;
+    public Class<ProductDiscontinuedEvent> getEventType() {
+        return ProductDiscontinuedEvent.class;
     }
 
     @Override
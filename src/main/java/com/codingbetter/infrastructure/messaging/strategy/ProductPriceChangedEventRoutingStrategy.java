@@ -1,24 +1,62 @@
 package com.codingbetter.infrastructure.messaging.strategy;
 
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.ProductId;
 import com.codingbetter.domain.shared.event.DomainEvent;
 import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
 
 /**
  * Strategy for determining the routing key for ProductPriceChangedEvent.
+ * With product.messaging.price-partitions set, events are spread over that many partition
+ * queues by a consistent hash of the product id, so all events of a product land in the same one.
  */
 @Component
 public class ProductPriceChangedEventRoutingStrategy implements EventRoutingStrategy {
 
+    private final int partitions;
+
+    public ProductPriceChangedEventRoutingStrategy(@Value("${product.messaging.price-partitions:0}") int partitions) {
+        if (partitions < 0) {
+            throw new IllegalArgumentException("Price partitions must not be negative: " + partitions);
+        }
+        this.partitions = partitions;
+    }
+
     @Override
-    public boolean canHandle(DomainEvent event) {
-        return event instanceof ProductPriceChangedEvent;
+    public Class<ProductPriceChangedEvent> getEventType() {
+        return ProductPriceChangedEvent.class;
     }
 
     @Override
     public String getRoutingKey(DomainEvent event) {
-        return ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_ROUTING_KEY;
+        if (partitions == 0) {
+            return ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_ROUTING_KEY;
+        }
+        ProductId productId = ((ProductPriceChangedEvent) event).getProductId();
+        return ProductRabbitMQConfig.pricePartitionRoutingKey(partition(productId, partitions));
+    }
+
+    /**
+     * Jump consistent hash (Lamping and Veach): when the partition count grows from n to n + 1,
+     * only about 1/(n + 1) of the products move, all of them to the new partition.
+     *
+     * @return The partition of the product, between 0 and partitions - 1
+     */
+    static int partition(ProductId productId, int partitions) {
+        UUID uuid = productId.getUuid();
+        long key = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        long bucket = -1;
+        long next = 0;
+        while (next < partitions) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package com.codingbetter.infrastructure.persistence.adapter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductField;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.model.ProductRepository;
+import com.codingbetter.domain.catalog.product.model.ProductStatus;
+import com.codingbetter.domain.catalog.product.model.ProductSummary;
+import com.codingbetter.domain.shared.model.CursorPage;
+import com.codingbetter.domain.shared.model.Page;
+import com.codingbetter.domain.shared.model.Slice;
+import com.codingbetter.infrastructure.messaging.cache.ProductCacheInvalidationPublisher;
+import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
+import com.codingbetter.infrastructure.persistence.mapper.InfraProductMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through cache decorator around {@link ProductRepositoryAdapter}.
+ * Caches the persistence entity rather than the domain Product, so every caller
+ * still gets its own mutable aggregate and cannot corrupt the cached state.
+ * Entries are bounded by size and expire after write; save() evicts the entry locally
+ * and broadcasts the eviction to the other instances.
+ */
+@Component
+@Primary
+@Slf4j
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingProductRepository implements ProductRepository {
+
+    private final ProductRepositoryAdapter delegate;
+    private final InfraProductMapper productMapper;
+    private final ProductCacheInvalidationPublisher invalidationPublisher;
+    private final Cache<ProductId, ProductEntity> cache;
+
+    public CachingProductRepository(ProductRepositoryAdapter delegate,
+                                    InfraProductMapper productMapper,
+                                    ProductCacheInvalidationPublisher invalidationPublisher,
+                                    @Value("${product.cache.maximum-size:10000}") long maximumSize,
+                                    @Value("${product.cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.productMapper = productMapper;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        log.info("Product cache enabled: maximumSize={}, expireAfterWrite={}", maximumSize, expireAfterWrite);
+    }
+
+    /**
+     * Evicts the entry even when the write fails, so a retry after a concurrent
+     * modification reloads the current document instead of the stale cached one.
+     * Inside a transaction the entry is evicted again and broadcast only after commit,
+     * since a read in between could have cached the not yet committed state.
+     */
+    @Override
+    public void save(Product product) {
+        try {
+            delegate.save(product);
+        } finally {
+            evict(product.getId());
+        }
+        afterCommit(() -> {
+            evict(product.getId());
+            invalidationPublisher.broadcast(product.getId());
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @Override
+    public Map<ProductId, String> insertAll(List<Product> products) {
+        // New products cannot be cached yet, so there is nothing to evict
+        return delegate.insertAll(products);
+    }
+
+    /**
+     * Evicts like {@link #save(Product)}: right away and, within a transaction, again after commit.
+     */
+    @Override
+    public Map<ProductId, String> updateAll(List<Product> products) {
+        Map<ProductId, String> failures;
+        try {
+            failures = delegate.updateAll(products);
+        } finally {
+            products.forEach(product -> evict(product.getId()));
+        }
+        afterCommit(() -> products.forEach(product -> {
+            evict(product.getId());
+            invalidationPublisher.broadcast(product.getId());
+        }));
+        return failures;
+    }
+
+    @Override
+    public Optional<Product> findById(ProductId productId) {
+        return findEntityById(productId).map(productMapper::toDomain);
+    }
+
+    private Optional<ProductEntity> findEntityById(ProductId productId) {
+        return Optional.ofNullable(cache.get(productId, id -> delegate.findEntityById(id).orElse(null)));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ProductId> productIds) {
+        return delegate.findAllById(productIds);
+    }
+
+    @Override
+    public List<Product> findAllBySku(Collection<String> skus) {
+        return delegate.findAllBySku(skus);
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        // The index resolves the SKU to an id, the product itself then usually comes from the cache
+        return delegate.findEntityBySku(sku, this::findEntityById)
+            .map(productMapper::toDomain);
+    }
+
+    @Override
+    public Page<Product> findAll(int page, int size) {
+        return delegate.findAll(page, size);
+    }
+
+    @Override
+    public Page<ProductSummary> findAllSummaries(Set<ProductField> fields, int page, int size) {
+        return delegate.findAllSummaries(fields, page, size);
+    }
+
+    @Override
+    public Slice<Product> findSlice(int page, int size, boolean estimateTotal) {
+        return delegate.findSlice(page, size, estimateTotal);
+    }
+
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size) {
+        return delegate.findAllAfter(cursor, size);
+    }
+
+    @Override
+    public Page<Product> findByCategory(String category, int page, int size) {
+        return delegate.findByCategory(category, page, size);
+    }
+
+    @Override
+    public CursorPage<Product> findByCategoryAfter(CategoryId categoryId, ProductStatus status, String cursor, int size) {
+        return delegate.findByCategoryAfter(categoryId, status, cursor, size);
+    }
+
+    /**
+     * Removes a product from the local cache.
+     *
+     * @param productId The product to evict
+     */
+    public void evict(ProductId productId) {
+        cache.invalidate(productId);
+    }
+}
@@ -1,17 +1,51 @@
 package com.codingbetter.infrastructure.persistence.adapter;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+import com.codingbetter.domain.catalog.product.exception.ProductConcurrentModificationException;
 import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductField;
 import com.codingbetter.domain.catalog.product.model.ProductId;
 import com.codingbetter.domain.catalog.product.model.ProductRepository;
+import com.codingbetter.domain.catalog.product.model.ProductStatus;
+import com.codingbetter.domain.catalog.product.model.ProductSummary;
+import com.codingbetter.domain.catalog.product.model.SkuId;
+import com.codingbetter.domain.shared.model.CursorPage;
 import com.codingbetter.domain.shared.model.Page;
+import com.codingbetter.domain.shared.model.Slice;
 import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
+import com.codingbetter.infrastructure.persistence.index.SkuIndex;
 import com.codingbetter.infrastructure.persistence.mapper.InfraProductMapper;
 import com.codingbetter.infrastructure.persistence.repository.ProductMongoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.MongoException;
+import com.mongodb.client.result.UpdateResult;
 
 /**
  * Adapter implementation of the ProductRepository interface.
@@ -20,26 +54,267 @@ import com.codingbetter.infrastructure.persistence.repository.ProductMongoReposi
 @Component
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
     private final ProductMongoRepository productMongoRepository;
+    private final MongoTemplate mongoTemplate;
     private final InfraProductMapper productMapper;
+    private final SkuIndex skuIndex;
+    private final int bulkChunkSize;
+    private final Cache<Class<?>, Long> estimatedCountCache;
 
-    public ProductRepositoryAdapter(ProductMongoRepository productMongoRepository, InfraProductMapper productMapper) {
+    public ProductRepositoryAdapter(ProductMongoRepository productMongoRepository,
+                                    MongoTemplate mongoTemplate,
+                                    InfraProductMapper productMapper,
+                                    SkuIndex skuIndex,
+                                    @Value("${product.bulk.chunk-size:1000}") int bulkChunkSize,
+                                    @Value("${product.count.estimate-staleness:30s}") Duration estimateStaleness) {
+        if (bulkChunkSize < 1) {
+            throw new IllegalArgumentException("product.bulk.chunk-size must be at least 1");
+        }
         this.productMongoRepository = productMongoRepository;
+        this.mongoTemplate = mongoTemplate;
         this.productMapper = productMapper;
+        this.skuIndex = skuIndex;
+        this.bulkChunkSize = bulkChunkSize;
+        this.estimatedCountCache = Caffeine.newBuilder()
+            .expireAfterWrite(estimateStaleness)
+            .build();
     }
 
+    /**
+     * Inserts new products and writes only the pending changes of loaded ones as a targeted $set.
+     * The update is conditional on the version the product was loaded with and increments it,
+     * so a concurrent write in between is detected instead of silently overwritten.
+     *
+     * @throws ProductConcurrentModificationException if the stored version no longer matches
+     */
     @Override
     public void save(Product product) {
-        ProductEntity productEntity = productMapper.toEntity(product);
-        productMongoRepository.save(productEntity);
+        if (product.isNew()) {
+            ProductEntity inserted = mongoTemplate.insert(productMapper.toEntity(product));
+            product.markPersisted(inserted.getVersion());
+            skuIndex.put(product.getSku().getId(), product.getId());
+            return;
+        }
+        if (!product.hasChanges()) {
+            return;
+        }
+        UpdateResult result;
+        try {
+            result = mongoTemplate.updateFirst(byIdAndVersion(product), versionedUpdate(product), ProductEntity.class);
+        } catch (DataAccessException e) {
+            if (isTransactionWriteConflict(e)) {
+                throw new ProductConcurrentModificationException(String.format(
+                    "Product %s was modified by a concurrent transaction", product.getId().getUuid()), e);
+            }
+            throw e;
+        }
+        if (result.getMatchedCount() == 0) {
+            throw new ProductConcurrentModificationException(String.format(
+                "Product %s was modified concurrently (expected version %d)", product.getId().getUuid(), product.getVersion()));
+        }
+        product.markPersisted(product.getVersion() + 1);
+    }
+
+    /**
+     * Inside a transaction a concurrent write is reported as a write conflict
+     * labelled TransientTransactionError rather than as an unmatched update.
+     */
+    private static boolean isTransactionWriteConflict(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof MongoException mongoException
+            && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+    }
+
+    /**
+     * Inserts products with one insertMany per chunk of product.bulk.chunk-size documents.
+     * Runs in a transaction, joining the caller's if there is one. A duplicate key error would
+     * abort it, so SKUs that are already stored, or repeated in the batch, are looked up first
+     * with one $in query and only reject their own product.
+     *
+     * @throws ProductConcurrentModificationException if another transaction inserted one of the SKUs meanwhile
+     */
+    @Override
+    @Transactional
+    public Map<ProductId, String> insertAll(List<Product> products) {
+        Map<ProductId, String> failures = new HashMap<>();
+        for (int from = 0; from < products.size(); from += bulkChunkSize) {
+            List<Product> chunk = products.subList(from, Math.min(from + bulkChunkSize, products.size()));
+            Set<String> takenSkus = findStoredSkus(chunk);
+            List<Product> insertable = new ArrayList<>(chunk.size());
+            chunk.forEach(product -> {
+                String sku = product.getSku().getId().getValue();
+                if (takenSkus.add(sku)) {
+                    insertable.add(product);
+                } else {
+                    failures.put(product.getId(), String.format("Product with SKU %s already exists", sku));
+                }
+            });
+            if (insertable.isEmpty()) {
+                continue;
+            }
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductEntity.class)
+                    .insert(productMapper.toEntities(insertable))
+                    .execute();
+            } catch (DataAccessException e) {
+                if (isTransactionWriteConflict(e) || isDuplicateKey(e)) {
+                    throw new ProductConcurrentModificationException("Products were inserted by a concurrent transaction", e);
+                }
+                throw e;
+            }
+            insertable.forEach(product -> skuIndex.put(product.getSku().getId(), product.getId()));
+        }
+        return failures;
+    }
+
+    private Set<String> findStoredSkus(List<Product> products) {
+        Query query = Query.query(Criteria.where("sku").in(products.stream().map(product -> product.getSku().getId().getValue()).toList()));
+        query.fields().include("sku");
+        Set<String> skus = new HashSet<>();
+        mongoTemplate.find(query, ProductEntity.class).forEach(entity -> skus.add(entity.getSku()));
+        return skus;
+    }
+
+    private static boolean isDuplicateKey(DataAccessException e) {
+        return e instanceof BulkOperationException bulkException
+            && bulkException.getErrors().stream().anyMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR_CODE);
+    }
+
+    /**
+     * Writes one targeted, version-conditional $set of the pending changes per product,
+     * sent as a single unordered bulkWrite instead of rewriting every document.
+     * Products whose stored version moved on in the meantime are reported as failures.
+     * Runs in a transaction, joining the caller's if there is one: until it commits, the
+     * written documents cannot be changed by anyone else, so the products that did not
+     * match can be told apart from the ones that did.
+     *
+     * @throws ProductConcurrentModificationException if a concurrent transaction wrote one of the products
+     */
+    @Override
+    @Transactional
+    public Map<ProductId, String> updateAll(List<Product> products) {
+        Map<ProductId, String> failures = new HashMap<>();
+        List<Product> changedProducts = products.stream().filter(Product::hasChanges).toList();
+        if (changedProducts.isEmpty()) {
+            return failures;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductEntity.class);
+        changedProducts.forEach(product -> bulkOperations.updateOne(byIdAndVersion(product), versionedUpdate(product)));
+        // A write error aborts the whole transaction, so it fails the batch rather than single products
+        int matched;
+        try {
+            matched = bulkOperations.execute().getMatchedCount();
+        } catch (DataAccessException e) {
+            if (isTransactionWriteConflict(e)) {
+                throw new ProductConcurrentModificationException("Products were modified by a concurrent transaction", e);
+            }
+            throw e;
+        }
+        if (matched < changedProducts.size()) {
+            failures.putAll(findConcurrentlyModified(changedProducts));
+        }
+        changedProducts.stream()
+            .filter(product -> !failures.containsKey(product.getId()))
+            .forEach(product -> product.markPersisted(product.getVersion() + 1));
+        return failures;
+    }
+
+    /**
+     * A bulkWrite only reports the total matched count, so the products whose update matched
+     * are identified by matching {_id, version} against the version each update wrote. This
+     * reads inside the transaction of the bulkWrite, which sees its own writes and keeps other
+     * writers off those documents, so a later update by someone else cannot be mistaken for
+     * a conflict, nor a conflicting one for success.
+     */
+    private Map<ProductId, String> findConcurrentlyModified(List<Product> products) {
+        Query query = Query.query(new Criteria().orOperator(products.stream()
+            .map(product -> Criteria.where("id").is(product.getId().getUuid().toString()).and("version").is(product.getVersion() + 1))
+            .toArray(Criteria[]::new)));
+        query.fields().include("id");
+        Set<String> written = new HashSet<>();
+        mongoTemplate.find(query, ProductEntity.class).forEach(entity -> written.add(entity.getId()));
+
+        Map<ProductId, String> conflicts = new HashMap<>();
+        products.stream()
+            .filter(product -> !written.contains(product.getId().getUuid().toString()))
+            .forEach(product -> conflicts.put(product.getId(), "Product was modified concurrently"));
+        return conflicts;
+    }
+
+    /**
+     * Matches the product only while it still has the version it was loaded with.
+     * Documents written before versioning carry no version field and count as the initial version.
+     */
+    private static Query byIdAndVersion(Product product) {
+        Criteria criteria = Criteria.where("id").is(product.getId().getUuid().toString());
+        return Query.query(product.getVersion() == ProductEntity.INITIAL_VERSION
+            ? criteria.and("version").in(ProductEntity.INITIAL_VERSION, null)
+            : criteria.and("version").is(product.getVersion()));
+    }
+
+    private Update versionedUpdate(Product product) {
+        return productMapper.toUpdate(product).inc("version", 1);
     }
 
     @Override
     public Optional<Product> findById(ProductId productId) {
-        return productMongoRepository.findById(productId.getValue().getUuid().toString())
+        return findEntityById(productId)
             .map(productMapper::toDomain);
     }
 
+    /**
+     * Loads the raw persistence entity, without mapping it to the domain.
+     * Used by {@link CachingProductRepository} to cache the document itself.
+     */
+    Optional<ProductEntity> findEntityById(ProductId productId) {
+        return productMongoRepository.findById(productId.getValue().getUuid().toString());
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ProductId> productIds) {
+        List<String> ids = productIds.stream()
+            .map(productId -> productId.getUuid().toString())
+            .toList();
+        return productMongoRepository.findAllById(ids).stream()
+            .map(productMapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    public List<Product> findAllBySku(Collection<String> skus) {
+        return productMapper.toDomains(productMongoRepository.findBySkuIn(skus));
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return findEntityBySku(sku, this::findEntityById)
+            .map(productMapper::toDomain);
+    }
+
+    /**
+     * Resolves the SKU through the {@link SkuIndex} and loads the product with the given loader.
+     * A miss, or a hit whose document does not carry the SKU (an insert that was rolled back),
+     * falls back to the unique sku index in MongoDB and records the result in the SkuIndex.
+     */
+    Optional<ProductEntity> findEntityBySku(String sku, Function<ProductId, Optional<ProductEntity>> loader) {
+        SkuId skuId;
+        try {
+            skuId = new SkuId(sku);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        Optional<ProductEntity> indexed = skuIndex.get(skuId)
+            .flatMap(loader)
+            .filter(entity -> sku.equals(entity.getSku()));
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+        Optional<ProductEntity> found = productMongoRepository.findBySku(sku);
+        found.ifPresent(entity -> skuIndex.put(skuId, new ProductId(UUID.fromString(entity.getId()))));
+        return found;
+    }
+
     @Override
     public Page<Product> findAll(int page, int size) {
         PageRequest pageable = org.springframework.data.domain.PageRequest.of(page, size);
@@ -47,10 +322,94 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return SpringDataPageConverter.toPage(mongoPage, productMapper::toDomain);
     }
 
+    /**
+     * Reads only the selected fields through a Mongo projection, so images and
+     * specifications are neither transferred nor mapped for list views.
+     */
+    @Override
+    public Page<ProductSummary> findAllSummaries(Set<ProductField> fields, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        Query query = new Query().with(pageable);
+        fields.forEach(field -> query.fields().include(toEntityFields(field)));
+
+        List<ProductEntity> entities = mongoTemplate.find(query, ProductEntity.class);
+        org.springframework.data.domain.Page<ProductEntity> mongoPage = PageableExecutionUtils.getPage(entities, pageable,
+            () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), ProductEntity.class));
+        return SpringDataPageConverter.toPage(mongoPage, productMapper::toSummary);
+    }
+
+    private static String[] toEntityFields(ProductField field) {
+        return switch (field) {
+            case ID -> new String[] {"id"};
+            case SKU -> new String[] {"sku"};
+            case NAME -> new String[] {"name"};
+            case DESCRIPTION -> new String[] {"description"};
+            case PRICE -> new String[] {"price", "currency"};
+            case STATUS -> new String[] {"status"};
+            case CATEGORY_ID -> new String[] {"categoryId"};
+        };
+    }
+
+    /**
+     * Offset pagination without the countDocuments query: Spring Data fetches one
+     * extra document to know whether a next slice exists. When requested, the total is
+     * taken from the collection metadata (estimatedDocumentCount), cached for at most
+     * product.count.estimate-staleness.
+     */
+    @Override
+    public Slice<Product> findSlice(int page, int size, boolean estimateTotal) {
+        PageRequest pageable = PageRequest.of(page, size);
+        org.springframework.data.domain.Slice<ProductEntity> mongoSlice = productMongoRepository.findSliceBy(pageable);
+        Long estimatedTotal = estimateTotal ? estimatedCount() : null;
+        return SpringDataPageConverter.toSlice(mongoSlice, estimatedTotal, productMapper::toDomain);
+    }
+
+    private long estimatedCount() {
+        return estimatedCountCache.get(ProductEntity.class, mongoTemplate::estimatedCount);
+    }
+
+    /**
+     * Keyset pagination over the _id index: each page is a range scan starting
+     * after the last id of the previous page, with no skip and no count query.
+     */
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size) {
+        Limit limit = cursorWindow(size);
+        List<ProductEntity> entities = isFirstPage(cursor)
+            ? productMongoRepository.findAllByOrderByIdAsc(limit)
+            : productMongoRepository.findByIdGreaterThanOrderByIdAsc(CursorCodec.decode(cursor), limit);
+        return SpringDataPageConverter.toCursorPage(entities, size, ProductEntity::getId, productMapper::toDomain);
+    }
+
     @Override
     public Page<Product> findByCategory(String categoryId, int page, int size) {
         PageRequest pageable = org.springframework.data.domain.PageRequest.of(page, size);
         org.springframework.data.domain.Page<ProductEntity> mongoPage = productMongoRepository.findByCategoryId(categoryId, pageable);
         return SpringDataPageConverter.toPage(mongoPage, productMapper::toDomain);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Keyset pagination within a category, served by the
+     * {categoryId, status, _id} compound index as a single range scan.
+     */
+    @Override
+    public CursorPage<Product> findByCategoryAfter(CategoryId categoryId, ProductStatus status, String cursor, int size) {
+        Limit limit = cursorWindow(size);
+        String category = categoryId.getValue().toString();
+        List<ProductEntity> entities = isFirstPage(cursor)
+            ? productMongoRepository.findByCategoryIdAndStatusOrderByIdAsc(category, status.name(), limit)
+            : productMongoRepository.findByCategoryIdAndStatusAndIdGreaterThanOrderByIdAsc(category, status.name(), CursorCodec.decode(cursor), limit);
+        return SpringDataPageConverter.toCursorPage(entities, size, ProductEntity::getId, productMapper::toDomain);
+    }
+
+    private static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    private static Limit cursorWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        return Limit.of(size + 1);
+    }
+}
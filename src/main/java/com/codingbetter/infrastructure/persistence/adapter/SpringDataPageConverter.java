@@ -1,7 +1,9 @@
 package com.codingbetter.infrastructure.persistence.adapter;
 
+import com.codingbetter.domain.shared.model.CursorPage;
 import com.codingbetter.domain.shared.model.Page;
 import com.codingbetter.domain.shared.model.PageUtils;
+import com.codingbetter.domain.shared.model.Slice;
 
 import java.util.List;
 import java.util.function.Function;
@@ -43,4 +45,53 @@ public class SpringDataPageConverter {
 
         return PageUtils.map(page, mapper);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Converts a Spring Data Slice to a domain Slice.
+     *
+     * @param mongoSlice Spring Data Slice
+     * @param estimatedTotalElements Approximate total of elements, or null
+     * @param mapper Function to map from document to domain entity
+     * @param <T> Type of elements in the Slice
+     * @param <R> Type of elements in the domain Slice
+     * @return Domain Slice
+     */
+    public static <T, R> Slice<R> toSlice(org.springframework.data.domain.Slice<T> mongoSlice, Long estimatedTotalElements, Function<T, R> mapper) {
+        if (mongoSlice == null) {
+            return Slice.empty();
+        }
+
+        return Slice.of(
+                mongoSlice.getContent(),
+                mongoSlice.getNumber(),
+                mongoSlice.getSize(),
+                mongoSlice.hasNext(),
+                estimatedTotalElements
+        ).map(mapper);
+    }
+
+    /**
+     * Converts a keyset query result to a domain CursorPage.
+     * The query is expected to fetch one element more than the page size,
+     * which tells whether a following page exists without counting.
+     *
+     * @param window Query result, with at most size + 1 elements
+     * @param size Requested page size
+     * @param keyExtractor Function extracting the sort key of a document
+     * @param mapper Function to map from document to domain entity
+     * @param <T> Type of the documents
+     * @param <R> Type of elements in the domain CursorPage
+     * @return Domain CursorPage
+     */
+    public static <T, R> CursorPage<R> toCursorPage(List<T> window, int size, Function<T, String> keyExtractor, Function<T, R> mapper) {
+        if (window == null || window.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        boolean hasNext = window.size() > size;
+        List<T> content = hasNext ? window.subList(0, size) : window;
+        String nextCursor = hasNext ? CursorCodec.encode(keyExtractor.apply(content.get(content.size() - 1))) : null;
+
+        return CursorPage.of(content, size, nextCursor).map(mapper);
+    }
+}
@@ -0,0 +1,40 @@
+package com.codingbetter.infrastructure.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A domain event waiting to be relayed to RabbitMQ. It is written in the same
+ * transaction as the aggregate change and removed once the broker confirms it.
+ * The event id is used as the document id, so an event is stored at most once.
+ * The aggregate id, set for product events, identifies the events that must keep their order.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "outbox")
+@CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
+public class OutboxMessageEntity {
+
+    @Id
+    private String id;
+
+    private String eventType;
+    private String routingKey;
+    private String aggregateId;
+    private String payload;
+    private LocalDateTime occurredOn;
+    private Instant createdAt;
+}
@@ -0,0 +1,35 @@
+package com.codingbetter.infrastructure.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Records that a consumed event was processed. The event id is the document id, so a second
+ * claim of the same event finds the existing record; records expire after seven days,
+ * well beyond any redelivery or retry window.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "processed_events")
+public class ProcessedEventEntity {
+
+    @Id
+    private String id;
+
+    private String eventType;
+
+    @Indexed(name = "processedAt_ttl", expireAfter = "7d")
+    private Instant processedAt;
+}
@@ -1,7 +1,9 @@
 package com.codingbetter.infrastructure.persistence.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.math.BigDecimal;
@@ -22,7 +24,14 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "products")
+@CompoundIndex(name = "categoryId_status_id", def = "{'categoryId': 1, 'status': 1, '_id': 1}")
 public class ProductEntity {
+
+    /**
+     * Version of newly inserted documents. Documents written before the version
+     * field existed are read as this version too.
+     */
+    public static final long INITIAL_VERSION = 0L;
     
     @Id
     private String id;
@@ -40,4 +49,7 @@ public class ProductEntity {
     private Map<String, String> specifications;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.codingbetter.infrastructure.persistence.index;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.model.SkuId;
+
+/**
+ * In-process SKU to product id index, filled by {@link SkuIndexBootstrap} and by product inserts.
+ * Keys are the packed SKU (a long and an int) and values the two longs of the product UUID,
+ * kept in parallel primitive arrays with linear probing, about 56 bytes per product and no
+ * object per entry. Lookups run without locking and are retried under the read lock only if
+ * a write happened meanwhile.
+ * <p>
+ * The index is a hint, not the source of truth: it misses products inserted by other instances
+ * and may keep the entry of an insert whose transaction rolled back, so callers verify a hit
+ * and fall back to the database on a miss.
+ */
+@Component
+public class SkuIndex {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    public Optional<ProductId> get(SkuId sku) {
+        long stamp = lock.tryOptimisticRead();
+        UUID productId = table.get(sku.getPackedLetters(), sku.getPackedDigits());
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                productId = table.get(sku.getPackedLetters(), sku.getPackedDigits());
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return Optional.ofNullable(productId).map(ProductId::new);
+    }
+
+    public void put(SkuId sku, ProductId productId) {
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > table.capacity()) {
+                table = table.resized(table.capacity() * 2);
+            }
+            UUID uuid = productId.getUuid();
+            if (table.put(sku.getPackedLetters(), sku.getPackedDigits(), uuid.getMostSignificantBits(), uuid.getLeastSignificantBits())) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Open-addressing table, kept at most half full. A slot is free while its digits are EMPTY,
+     * which no SKU uses since digits are never negative.
+     */
+    private static final class Table {
+
+        private final int mask;
+        private final long[] letters;
+        private final int[] digits;
+        private final long[] mostSignificantBits;
+        private final long[] leastSignificantBits;
+
+        private Table(int capacity) {
+            this.mask = capacity - 1;
+            this.letters = new long[capacity];
+            this.digits = new int[capacity];
+            this.mostSignificantBits = new long[capacity];
+            this.leastSignificantBits = new long[capacity];
+            Arrays.fill(digits, EMPTY);
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+
+        private UUID get(long skuLetters, int skuDigits) {
+            int slot = slot(skuLetters, skuDigits);
+            for (int probes = 0; probes <= mask; probes++) {
+                int slotDigits = digits[slot];
+                if (slotDigits == EMPTY) {
+                    return null;
+                }
+                if (slotDigits == skuDigits && letters[slot] == skuLetters) {
+                    return new UUID(mostSignificantBits[slot], leastSignificantBits[slot]);
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * @return true if the SKU was not in the table yet
+         */
+        private boolean put(long skuLetters, int skuDigits, long most, long least) {
+            int slot = slot(skuLetters, skuDigits);
+            while (digits[slot] != EMPTY && !(digits[slot] == skuDigits && letters[slot] == skuLetters)) {
+                slot = (slot + 1) & mask;
+            }
+            boolean added = digits[slot] == EMPTY;
+            letters[slot] = skuLetters;
+            mostSignificantBits[slot] = most;
+            leastSignificantBits[slot] = least;
+            digits[slot] = skuDigits;
+            return added;
+        }
+
+        private Table resized(int capacity) {
+            Table resized = new Table(capacity);
+            for (int slot = 0; slot <= mask; slot++) {
+                if (digits[slot] != EMPTY) {
+                    resized.put(letters[slot], digits[slot], mostSignificantBits[slot], leastSignificantBits[slot]);
+                }
+            }
+            return resized;
+        }
+
+        private int slot(long skuLetters, int skuDigits) {
+            long hash = skuLetters * 0x9e3779b97f4a7c15L + skuDigits;
+            hash = (hash ^ (hash >>> 32)) * 0xd6e8feb86659fd93L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.codingbetter.infrastructure.persistence.index;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.model.SkuId;
+import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills the {@link SkuIndex} once the application has started, streaming the id and sku
+ * of every product with a cursor instead of loading the catalog. Runs on its own thread:
+ * until it is done lookups simply miss and go to the database.
+ */
+@Component
+@Slf4j
+public class SkuIndexBootstrap {
+
+    private final MongoTemplate mongoTemplate;
+    private final SkuIndex skuIndex;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SkuIndexBootstrap(MongoTemplate mongoTemplate, SkuIndex skuIndex,
+                             @Value("${product.sku-index.bootstrap:true}") boolean enabled,
+                             @Value("${product.sku-index.batch-size:10000}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.skuIndex = skuIndex;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            Thread.ofVirtual().name("sku-index-bootstrap").start(this::bootstrap);
+        }
+    }
+
+    void bootstrap() {
+        long started = System.nanoTime();
+        Query query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("_id", "sku");
+        String collection = mongoTemplate.getCollectionName(ProductEntity.class);
+        int skipped = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, collection)) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                try {
+                    skuIndex.put(new SkuId(document.getString("sku")), new ProductId(UUID.fromString(document.getString("_id"))));
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                }
+            }
+            log.info("SKU index loaded: {} products in {} ms ({} skipped)",
+                    skuIndex.size(), (System.nanoTime() - started) / 1_000_000, skipped);
+        } catch (RuntimeException e) {
+            log.warn("SKU index bootstrap failed after {} products, lookups fall back to the database", skuIndex.size(), e);
+        }
+    }
+}
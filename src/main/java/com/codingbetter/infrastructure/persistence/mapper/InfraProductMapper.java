@@ -3,22 +3,24 @@ package com.codingbetter.infrastructure.persistence.mapper;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Currency;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import com.codingbetter.domain.catalog.category.model.CategoryId;
 import com.codingbetter.domain.catalog.product.model.Image;
 import com.codingbetter.domain.catalog.product.model.Money;
 import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductChange;
 import com.codingbetter.domain.catalog.product.model.ProductFactory;
 import com.codingbetter.domain.catalog.product.model.ProductId;
 import com.codingbetter.domain.catalog.product.model.ProductStatus;
+import com.codingbetter.domain.catalog.product.model.ProductSummary;
 import com.codingbetter.domain.catalog.product.model.Sku;
 import com.codingbetter.domain.catalog.product.model.Specification;
 import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
@@ -54,9 +56,32 @@ public class InfraProductMapper {
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
                 .quantity(0) // Default value
+                .version(product.isNew() ? ProductEntity.INITIAL_VERSION : product.getVersion())
                 .build();
     }
 
+    /**
+     * Converts the pending changes of a domain Product into a targeted $set update
+     * of the matching ProductEntity fields.
+     *
+     * @param product The domain product
+     * @return The update touching only the changed fields and updatedAt
+     */
+    public Update toUpdate(Product product) {
+        Update update = new Update().set("updatedAt", product.getUpdatedAt());
+        for (ProductChange change : product.getChanges()) {
+            switch (change) {
+                case PRICE -> update
+                        .set("price", product.getPrice().getAmount())
+                        .set("currency", product.getPrice().getCurrency().getCurrencyCode());
+                case STATUS -> update.set("status", product.getStatus().name());
+                case IMAGES -> update.set("images", convertImagesToUrls(product.getImages()));
+                case SPECIFICATIONS -> update.set("specifications", mapSpecificationsToMap(product.getSpecifications()));
+            }
+        }
+        return update;
+    }
+
     /**
      * Converts a persistence ProductEntity to a domain Product.
      *
@@ -73,9 +98,10 @@ public class InfraProductMapper {
                     Sku.fromValue(productEntity.getSku()),
                     productEntity.getName(),
                     productEntity.getDescription(),
-                    new Money(productEntity.getPrice(), Currency.getInstance(productEntity.getCurrency())),
+                    Money.of(productEntity.getPrice(), productEntity.getCurrency()),
                     new CategoryId(UUID.fromString(productEntity.getCategoryId())))
-                .withStatus(ProductStatus.valueOf(productEntity.getStatus()));
+                .withStatus(ProductStatus.valueOf(productEntity.getStatus()))
+                .withVersion(productEntity.getVersion() != null ? productEntity.getVersion() : ProductEntity.INITIAL_VERSION);
         
         if (productEntity.getImages() != null && !productEntity.getImages().isEmpty()) {
             builder.withImages(convertUrlsToImages(productEntity.getImages()));
@@ -88,6 +114,30 @@ public class InfraProductMapper {
         return builder.build();
     }
 
+    /**
+     * Converts a partially loaded ProductEntity to a domain ProductSummary.
+     * Attributes left out of the projection stay null.
+     *
+     * @param productEntity The projected persistence entity
+     * @return The product summary
+     */
+    public ProductSummary toSummary(ProductEntity productEntity) {
+        if (productEntity == null) {
+            return null;
+        }
+
+        return new ProductSummary(
+                new ProductId(UUID.fromString(productEntity.getId())),
+                productEntity.getSku(),
+                productEntity.getName(),
+                productEntity.getDescription(),
+                productEntity.getPrice() != null
+                        ? Money.of(productEntity.getPrice(), productEntity.getCurrency())
+                        : null,
+                productEntity.getStatus() != null ? ProductStatus.valueOf(productEntity.getStatus()) : null,
+                productEntity.getCategoryId() != null ? new CategoryId(UUID.fromString(productEntity.getCategoryId())) : null);
+    }
+
     /**
      * Converts a list of domain Products to a list of persistence ProductEntities.
      *
@@ -1,8 +1,13 @@
 package com.codingbetter.infrastructure.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
@@ -14,6 +19,27 @@ public interface ProductMongoRepository extends MongoRepository<ProductEntity, S
     @NonNull
     Page<ProductEntity> findAll(@NonNull Pageable pageable);
     
+    @NonNull
+    List<ProductEntity> findBySkuIn(@NonNull Collection<String> skus);
+
+    @NonNull
+    Optional<ProductEntity> findBySku(@NonNull String sku);
+
+    @NonNull
+    Slice<ProductEntity> findSliceBy(@NonNull Pageable pageable);
+
+    @NonNull
+    List<ProductEntity> findAllByOrderByIdAsc(@NonNull Limit limit);
+
+    @NonNull
+    List<ProductEntity> findByIdGreaterThanOrderByIdAsc(@NonNull String id, @NonNull Limit limit);
+    
     @NonNull
     Page<ProductEntity> findByCategoryId(@NonNull String category, @NonNull Pageable pageable);
+
+    @NonNull
+    List<ProductEntity> findByCategoryIdAndStatusOrderByIdAsc(@NonNull String categoryId, @NonNull String status, @NonNull Limit limit);
+
+    @NonNull
+    List<ProductEntity> findByCategoryIdAndStatusAndIdGreaterThanOrderByIdAsc(@NonNull String categoryId, @NonNull String status, @NonNull String id, @NonNull Limit limit);
 } 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.codingbetter.application.eventhandler;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.Money;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.messaging.idempotency.ProcessedEventStore;
+import com.rabbitmq.client.Channel;
+
+@ExtendWith(MockitoExtension.class)
+class ProductEventHandlerTest {
+
+    @Mock
+    private ProcessedEventStore processedEvents;
+
+    @Mock
+    private Channel channel;
+
+    private ProductEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new ProductEventHandler(processedEvents);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldRejectOnlyFailingDeliveryOfBatch() throws Exception {
+        // Arrange
+        ProductPriceChangedEvent first = priceChange();
+        ProductPriceChangedEvent failing = mock(ProductPriceChangedEvent.class);
+        when(failing.getProductId()).thenThrow(new IllegalStateException("broken event"));
+        ProductPriceChangedEvent last = priceChange();
+        List<ProductPriceChangedEvent> events = List.of(first, failing, last);
+        when(processedEvents.claim(events)).thenReturn(events);
+
+        // Act
+        handler.handleProductPriceChangedEvents(List.of(message(first, 1), message(failing, 2), message(last, 3)), channel);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        verify(processedEvents).release(List.of(failing));
+        verify(channel).basicNack(2, false, false);
+        verify(channel).basicAck(3, true);
+    }
+
+    @Test
+    void shouldRejectWholeBatchOnRollback() throws Exception {
+        // Arrange
+        ProductPriceChangedEvent first = priceChange();
+        ProductPriceChangedEvent second = priceChange();
+        when(processedEvents.claim(anyList())).thenReturn(List.of(first, second));
+
+        // Act
+        handler.handleProductPriceChangedEvents(List.of(message(first, 1), message(second, 2)), channel);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(channel).basicNack(2, true, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static ProductPriceChangedEvent priceChange() {
+        Currency currency = Currency.getInstance("USD");
+        return new ProductPriceChangedEvent(new ProductId(UUID.randomUUID()),
+                new Money(new BigDecimal("10.00"), currency), new Money(new BigDecimal("12.00"), currency));
+    }
+
+    private static Message<ProductPriceChangedEvent> message(ProductPriceChangedEvent event, long tag) {
+        return MessageBuilder.withPayload(event).setHeader(AmqpHeaders.DELIVERY_TAG, tag).build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.codingbetter.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.codingbetter.application.controller.mapper.ProductMapper;
+import com.codingbetter.application.controller.request.CreateProductRequest;
+import com.codingbetter.application.controller.request.UpdatePriceRequest;
+import com.codingbetter.application.controller.response.BulkItemResponse;
+import com.codingbetter.application.controller.response.BulkOperationResponse;
+import com.codingbetter.domain.catalog.category.model.CategoryId;
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.Money;
+import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductFactory;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.model.ProductRepository;
+import com.codingbetter.domain.catalog.product.model.Sku;
+import com.codingbetter.domain.shared.event.DomainEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ProductApplicationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductApplicationService(productRepository, eventPublisher, productMapper, transactionManager, 2, 3);
+    }
+
+    @Test
+    void shouldRejectChunkSizeBelowOne() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductApplicationService(productRepository, eventPublisher, productMapper, transactionManager, 0, 3));
+    }
+
+    @Test
+    void shouldReportEachCreatedProductAtItsRequestIndex() {
+        // Arrange
+        CreateProductRequest first = createRequest("NIKSHRTLGBLU001351");
+        CreateProductRequest invalid = createRequest("INVALID");
+        CreateProductRequest last = createRequest("NIKSHRTLGBLU001352");
+        Product firstProduct = product("NIKSHRTLGBLU001351");
+        Product lastProduct = product("NIKSHRTLGBLU001352");
+        when(productMapper.toEntity(first)).thenReturn(firstProduct);
+        when(productMapper.toEntity(invalid)).thenThrow(new IllegalArgumentException("Invalid SKU"));
+        when(productMapper.toEntity(last)).thenReturn(lastProduct);
+        when(productRepository.insertAll(anyList())).thenReturn(Map.of());
+
+        // Act
+        BulkOperationResponse response = service.createProducts(List.of(first, invalid, last));
+
+        // Assert
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertSuccess(response.getItems().get(0), 0, firstProduct);
+        assertEquals(1, response.getItems().get(1).getIndex());
+        assertEquals("INVALID", response.getItems().get(1).getSku());
+        assertEquals("Invalid SKU", response.getItems().get(1).getError());
+        assertSuccess(response.getItems().get(2), 2, lastProduct);
+        verify(productRepository).insertAll(List.of(firstProduct, lastProduct));
+    }
+
+    @Test
+    void shouldReportDuplicateSkuOnItsOwnItem() {
+        // Arrange
+        CreateProductRequest first = createRequest("NIKSHRTLGBLU001351");
+        CreateProductRequest duplicate = createRequest("NIKSHRTLGBLU001352");
+        Product firstProduct = product("NIKSHRTLGBLU001351");
+        Product duplicateProduct = product("NIKSHRTLGBLU001352");
+        when(productMapper.toEntity(first)).thenReturn(firstProduct);
+        when(productMapper.toEntity(duplicate)).thenReturn(duplicateProduct);
+        when(productRepository.insertAll(anyList()))
+                .thenReturn(Map.of(duplicateProduct.getId(), "Product with SKU NIKSHRTLGBLU001352 already exists"));
+
+        // Act
+        BulkOperationResponse response = service.createProducts(List.of(first, duplicate));
+
+        // Assert
+        assertSuccess(response.getItems().get(0), 0, firstProduct);
+        BulkItemResponse failure = response.getItems().get(1);
+        assertFalse(failure.isSuccess());
+        assertEquals(1, failure.getIndex());
+        assertEquals("NIKSHRTLGBLU001352", failure.getSku());
+        assertEquals("Product with SKU NIKSHRTLGBLU001352 already exists", failure.getError());
+    }
+
+    @Test
+    void shouldLookUpProductsByIdOrBySku() {
+        // Arrange
+        Product byId = product("NIKSHRTLGBLU001351");
+        Product bySku = product("NIKSHRTLGBLU001352");
+        when(productRepository.findAllById(Set.of(byId.getId()))).thenReturn(List.of(byId));
+        when(productRepository.findAllBySku(Set.of("NIKSHRTLGBLU001352"))).thenReturn(List.of(bySku));
+        when(productRepository.updateAll(anyList())).thenReturn(Map.of());
+
+        // Act
+        BulkOperationResponse response = service.updatePrices(List.of(
+                priceRequest(byId.getId().getUuid(), null),
+                priceRequest(null, "NIKSHRTLGBLU001352")));
+
+        // Assert
+        assertSuccess(response.getItems().get(0), 0, byId);
+        assertSuccess(response.getItems().get(1), 1, bySku);
+        assertEquals(0, new BigDecimal("120.00").compareTo(byId.getPrice().getAmount()));
+        assertEquals(0, new BigDecimal("120.00").compareTo(bySku.getPrice().getAmount()));
+        verify(productRepository).updateAll(List.of(byId, bySku));
+        verify(eventPublisher, times(2)).publish(any(ProductPriceChangedEvent.class));
+    }
+
+    @Test
+    void shouldSkipUnknownProducts() {
+        // Arrange
+        Product known = product("NIKSHRTLGBLU001351");
+        UUID unknownId = UUID.randomUUID();
+        when(productRepository.findAllById(Set.of(known.getId(), new ProductId(unknownId)))).thenReturn(List.of(known));
+        when(productRepository.updateAll(anyList())).thenReturn(Map.of());
+
+        // Act
+        BulkOperationResponse response = service.updatePrices(List.of(
+                priceRequest(unknownId, null),
+                priceRequest(known.getId().getUuid(), null)));
+
+        // Assert
+        BulkItemResponse failure = response.getItems().get(0);
+        assertFalse(failure.isSuccess());
+        assertEquals(unknownId, failure.getId());
+        assertEquals("Product " + unknownId + " was not found", failure.getError());
+        assertSuccess(response.getItems().get(1), 1, known);
+        verify(productRepository).updateAll(List.of(known));
+    }
+
+    @Test
+    void shouldNotPublishEventsOfConflictingProducts() {
+        // Arrange
+        Product conflicting = product("NIKSHRTLGBLU001351");
+        when(productRepository.findAllById(Set.of(conflicting.getId()))).thenReturn(List.of(conflicting));
+        when(productRepository.updateAll(anyList())).thenReturn(Map.of(conflicting.getId(), "Product was modified concurrently"));
+
+        // Act
+        BulkOperationResponse response = service.updatePrices(List.of(priceRequest(conflicting.getId().getUuid(), null)));
+
+        // Assert
+        assertFalse(response.getItems().get(0).isSuccess());
+        assertEquals("Product was modified concurrently", response.getItems().get(0).getError());
+        assertTrue(conflicting.getDomainEvents().isEmpty());
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    private static void assertSuccess(BulkItemResponse item, int index, Product product) {
+        assertTrue(item.isSuccess());
+        assertEquals(index, item.getIndex());
+        assertEquals(product.getSku().getId().getValue(), item.getSku());
+        assertEquals(product.getId().getUuid(), item.getId());
+    }
+
+    private static CreateProductRequest createRequest(String sku) {
+        return CreateProductRequest.builder()
+                .sku(sku)
+                .name("Test Product")
+                .description("Test Description")
+                .price(new BigDecimal("100.00"))
+                .currency("BRL")
+                .categoryId(UUID.randomUUID())
+                .build();
+    }
+
+    private static UpdatePriceRequest priceRequest(UUID productId, String sku) {
+        return UpdatePriceRequest.builder()
+                .productId(productId)
+                .sku(sku)
+                .price(new BigDecimal("120.00"))
+                .currency("BRL")
+                .build();
+    }
+
+    private static Product product(String sku) {
+        return ProductFactory
+                .builder(new ProductId(), Sku.fromValue(sku), "Test Product", "Test Description",
+                        Money.of(new BigDecimal("100.00"), "BRL"), new CategoryId(UUID.randomUUID()))
+                .build();
+    }
+}
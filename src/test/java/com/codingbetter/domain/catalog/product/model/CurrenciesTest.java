@@ -0,0 +1,45 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Currencies Tests")
+class CurrenciesTest {
+
+    @Test
+    @DisplayName("Should resolve every available currency to the JDK instance")
+    void shouldResolveEveryAvailableCurrency() {
+        // Arrange, Act & Assert
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            assertSame(currency, Currencies.of(currency.getCurrencyCode()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or malformed codes")
+    void shouldRejectUnknownCodes() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Currencies.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Currencies.of("usd"));
+        assertThrows(IllegalArgumentException.class, () -> Currencies.of("US"));
+        assertThrows(IllegalArgumentException.class, () -> Currencies.of("USDX"));
+        assertThrows(IllegalArgumentException.class, () -> Currencies.of("QQQ"));
+    }
+
+    @Test
+    @DisplayName("Should create money from a currency code")
+    void shouldCreateMoneyFromCode() {
+        // Act
+        Money money = Money.of(new BigDecimal("10.50"), "EUR");
+
+        // Assert
+        assertEquals(new Money(new BigDecimal("10.50"), Currency.getInstance("EUR")), money);
+    }
+}
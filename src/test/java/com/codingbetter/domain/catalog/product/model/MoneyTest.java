@@ -229,4 +229,63 @@ class MoneyTest {
         // Act & Assert
         assertEquals(money.hashCode(), money.hashCode());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should be equal with the same hashCode regardless of scale")
+    void shouldBeEqualWithSameHashCodeRegardlessOfScale() {
+        // Arrange
+        Money money1 = new Money(new BigDecimal("1.0"), Currency.getInstance("USD"));
+        Money money2 = new Money(new BigDecimal("1.00"), Currency.getInstance("USD"));
+
+        // Act & Assert
+        assertEquals(money1, money2);
+        assertEquals(money1.hashCode(), money2.hashCode());
+        assertEquals(new BigDecimal("1.00"), money1.getAmount());
+    }
+
+    @Test
+    @DisplayName("Should keep amounts with more decimals than the currency")
+    void shouldKeepAmountsWithMoreDecimalsThanCurrency() {
+        // Arrange
+        Money money1 = new Money(new BigDecimal("10.005"), Currency.getInstance("USD"));
+        Money money2 = new Money(new BigDecimal("0.005"), Currency.getInstance("USD"));
+
+        // Act
+        money1.add(money2);
+
+        // Assert
+        assertEquals(new BigDecimal("10.01"), money1.getAmount());
+        assertEquals(new Money(new BigDecimal("10.010"), Currency.getInstance("USD")), money1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to BigDecimal on overflow")
+    void shouldFallBackToBigDecimalOnOverflow() {
+        // Arrange
+        BigDecimal large = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+        Money money = new Money(large, Currency.getInstance("USD"));
+
+        // Act
+        money.multiply(3);
+        money.sub(new Money(large, Currency.getInstance("USD")));
+        money.sub(new Money(large, Currency.getInstance("USD")));
+
+        // Assert
+        assertEquals(large, money.getAmount());
+        assertEquals(new Money(large, Currency.getInstance("USD")).hashCode(), money.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should compare amounts of the same currency")
+    void shouldCompareAmountsOfSameCurrency() {
+        // Arrange
+        Money money1 = new Money(new BigDecimal("99.99"), Currency.getInstance("USD"));
+        Money money2 = new Money(new BigDecimal("100"), Currency.getInstance("USD"));
+        Money money3 = new Money(new BigDecimal("100"), Currency.getInstance("EUR"));
+
+        // Act & Assert
+        assertTrue(money1.compareTo(money2) < 0);
+        assertTrue(money2.compareTo(money1) > 0);
+        assertThrows(IllegalArgumentException.class, () -> money2.compareTo(money3));
+    }
+}
@@ -0,0 +1,38 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ProductFieldTest {
+
+    @Test
+    void shouldResolveFieldFromFieldName() {
+        // Arrange & Act & Assert
+        assertEquals(ProductField.ID, ProductField.fromFieldName("id"));
+        assertEquals(ProductField.PRICE, ProductField.fromFieldName("price"));
+        assertEquals(ProductField.CATEGORY_ID, ProductField.fromFieldName("categoryId"));
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownFieldName() {
+        // Arrange & Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> ProductField.fromFieldName("images")
+        );
+        assertEquals("Unknown product field: images", exception.getMessage());
+    }
+
+    @Test
+    void shouldDefaultToListViewFields() {
+        // Arrange & Act & Assert
+        assertEquals(4, ProductField.DEFAULT_SUMMARY.size());
+        assertTrue(ProductField.DEFAULT_SUMMARY.contains(ProductField.ID));
+        assertTrue(ProductField.DEFAULT_SUMMARY.contains(ProductField.NAME));
+        assertTrue(ProductField.DEFAULT_SUMMARY.contains(ProductField.PRICE));
+        assertTrue(ProductField.DEFAULT_SUMMARY.contains(ProductField.STATUS));
+    }
+}
@@ -671,6 +671,106 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change Tracking Tests")
+    class ChangeTrackingTests {
+        @Test
+        @DisplayName("Should have no changes when product is created")
+        void shouldHaveNoChangesWhenProductIsCreated() {
+            // Act
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .build();
+
+            // Assert
+            assertFalse(product.hasChanges());
+            assertTrue(product.getChanges().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should track each changed part of the product")
+        void shouldTrackEachChangedPartOfTheProduct() {
+            // Arrange
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .build();
+
+            // Act
+            product.updatePrice(new Money(new BigDecimal("150.00"), Currency.getInstance("BRL")));
+            product.activate();
+
+            // Assert
+            assertTrue(product.hasChanges());
+            assertEquals(Set.of(ProductChange.PRICE, ProductChange.STATUS), product.getChanges());
+        }
+
+        @Test
+        @DisplayName("Should track image and specification changes")
+        void shouldTrackImageAndSpecificationChanges() {
+            // Arrange
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .build();
+
+            // Act
+            product.addImage(image);
+            product.addSpecification(specification);
+
+            // Assert
+            assertEquals(Set.of(ProductChange.IMAGES, ProductChange.SPECIFICATIONS), product.getChanges());
+        }
+
+        @Test
+        @DisplayName("Should clear changes")
+        void shouldClearChanges() {
+            // Arrange
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .build();
+            product.activate();
+
+            // Act
+            product.clearChanges();
+
+            // Assert
+            assertFalse(product.hasChanges());
+        }
+
+        @Test
+        @DisplayName("Should be new until persisted")
+        void shouldBeNewUntilPersisted() {
+            // Arrange
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .build();
+            product.activate();
+
+            // Act
+            boolean newBeforePersist = product.isNew();
+            product.markPersisted(0L);
+
+            // Assert
+            assertTrue(newBeforePersist);
+            assertFalse(product.isNew());
+            assertEquals(0L, product.getVersion());
+            assertFalse(product.hasChanges());
+        }
+
+        @Test
+        @DisplayName("Should keep version loaded from storage")
+        void shouldKeepVersionLoadedFromStorage() {
+            // Act
+            Product product = ProductFactory
+                .builder(productId, sku, PRODUCT_NAME, PRODUCT_DESCRIPTION, price, categoryId)
+                .withVersion(4L)
+                .build();
+
+            // Assert
+            assertFalse(product.isNew());
+            assertEquals(4L, product.getVersion());
+        }
+    }
+
     @Nested
     @DisplayName("Collections Tests")
     class CollectionsTests {
@@ -2,6 +2,7 @@ package com.codingbetter.domain.catalog.product.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.stream.Stream;
@@ -25,6 +26,20 @@ class SkuIdTest {
         assertEquals(VALID_SKU, skuId.getValue());
     }
 
+    @Test
+    void shouldReuseValueOnceBuilt() {
+        // Arrange
+        SkuId skuId = new SkuId(VALID_SKU);
+
+        // Act
+        String first = skuId.getValue();
+        String second = skuId.getValue();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(new SkuId(VALID_SKU), skuId);
+    }
+
     @ParameterizedTest
     @MethodSource("provideInvalidSkuValues")
     void shouldThrowExceptionWhenSkuIsInvalid(String sku, String expectedErrorMessage) {
@@ -107,6 +122,32 @@ class SkuIdTest {
         assertEquals(skuId, skuId);
     }
 
+    @Test
+    void shouldRoundTripThroughPackedForm() {
+        // Arrange
+        SkuId lowest = new SkuId("AAAAAAAAAAAA000000");
+        SkuId highest = new SkuId("ZZZZZZZZZZZZ999999");
+
+        // Assert
+        assertEquals("AAAAAAAAAAAA000000", lowest.getValue());
+        assertEquals("ZZZZZZZZZZZZ999999", highest.getValue());
+        assertEquals(0L, lowest.getPackedLetters());
+        assertEquals(0, lowest.getPackedDigits());
+        assertEquals(999_999, highest.getPackedDigits());
+        assertEquals(VALID_SKU, new SkuId(VALID_SKU).getValue());
+    }
+
+    @Test
+    void shouldDistinguishSkusDifferingOnlyInDigits() {
+        // Arrange
+        SkuId skuId1 = new SkuId("NIKSHRTLGBLU001351");
+        SkuId skuId2 = new SkuId("NIKSHRTLGBLU001352");
+
+        // Assert
+        assertEquals(skuId1.getPackedLetters(), skuId2.getPackedLetters());
+        assertNotEquals(skuId1, skuId2);
+    }
+
     private static Stream<Arguments> provideInvalidSkuValues() {
         return Stream.of(
                 Arguments.of(null, "SKU is required"),
@@ -0,0 +1,87 @@
+package com.codingbetter.domain.catalog.product.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares Sku.fromValue with the regex based parsing it replaced.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.codingbetter.domain.catalog.product.model.SkuParsingBenchmark
+ * (add -prof gc to the JMH options to compare allocations as well).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkuParsingBenchmark {
+
+    private final String value = "NIKSHRTLGBLU001351";
+
+    @Benchmark
+    public Sku fromValue() {
+        return Sku.fromValue(value);
+    }
+
+    @Benchmark
+    public Sku regexFromValue() {
+        return regexFromValue(value);
+    }
+
+    @Benchmark
+    public SkuId skuId() {
+        return new SkuId(value);
+    }
+
+    @Benchmark
+    public boolean regexSkuId() {
+        return value.matches("^[A-Z]{3}[A-Z]{4}[A-Z]{2}[A-Z]{3}\\d{3}\\d{3}$");
+    }
+
+    /** The previous implementation: six substrings and six regex matches, then the builder matches again. */
+    private static Sku regexFromValue(String skuValue) {
+        String brand = skuValue.substring(0, 3);
+        String productType = skuValue.substring(3, 7);
+        String size = skuValue.substring(7, 9);
+        String color = skuValue.substring(9, 12);
+        String uniqueId = skuValue.substring(12, 15);
+        String location = skuValue.substring(15);
+        if (!brand.matches("[A-Z]{3}") || !productType.matches("[A-Z]{4}") || !size.matches("[A-Z]{2}")
+                || !color.matches("[A-Z]{3}") || !uniqueId.matches("\\d{3}") || !location.matches("\\d{3}")) {
+            throw new IllegalArgumentException("Invalid SKU");
+        }
+        // What the builder setters used to check again
+        boolean revalidated = brand.matches("[A-Z]{3}") & productType.matches("[A-Z]{4}") & size.matches("[A-Z]{2}")
+                & color.matches("[A-Z]{3}") & uniqueId.matches("\\d{3}") & location.matches("\\d{3}");
+        if (!revalidated) {
+            throw new IllegalStateException("Invalid SKU parts");
+        }
+        return Sku.builder()
+                .withBrand(brand)
+                .withProductType(productType)
+                .withSize(size)
+                .withColor(color)
+                .withUniqueId(uniqueId)
+                .withLocation(location)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SkuParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -384,6 +384,20 @@ class SkuTest {
             assertEquals(LOCATION, sku.getLocation());
         }
 
+        @Test
+        @DisplayName("Should share component strings between SKUs")
+        void shouldShareComponentStringsBetweenSkus() {
+            // Arrange
+            Sku sku1 = Sku.fromValue("NIKSHRTLGBLU001351");
+            Sku sku2 = Sku.fromValue("NIKPANTSMBLU002351");
+
+            // Assert
+            assertTrue(sku1.getBrand() == sku2.getBrand());
+            assertTrue(sku1.getColor() == sku2.getColor());
+            assertTrue(sku1.getLocation() == sku2.getLocation());
+            assertEquals(Sku.fromValue("NIKSHRTLGBLU001351"), sku1);
+        }
+
         @Test
         @DisplayName("Should throw exception when creating SKU from null value")
         void shouldThrowExceptionWhenCreatingSkuFromNullValue() {
@@ -0,0 +1,87 @@
+package com.codingbetter.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDeactivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDiscontinuedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.Money;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.config.JacksonConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EventJsonModuleTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+    }
+
+    @Test
+    void shouldRoundTripProductPriceChangedEvent() throws JsonProcessingException {
+        // Arrange
+        ProductPriceChangedEvent event = new ProductPriceChangedEvent(new ProductId(UUID.randomUUID()),
+                new Money(new BigDecimal("100.00"), Currency.getInstance("BRL")),
+                new Money(new BigDecimal("150.00"), Currency.getInstance("BRL")));
+
+        // Act
+        ProductPriceChangedEvent read = objectMapper.readValue(objectMapper.writeValueAsBytes(event), ProductPriceChangedEvent.class);
+
+        // Assert
+        assertEquals(event.getId(), read.getId());
+        assertEquals(event.getOccurredOn(), read.getOccurredOn());
+        assertEquals(event.getProductId(), read.getProductId());
+        assertEquals(event.getOldPrice(), read.getOldPrice());
+        assertEquals(event.getNewPrice(), read.getNewPrice());
+    }
+
+    @Test
+    void shouldRoundTripProductStatusEvents() throws JsonProcessingException {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductActivatedEvent activated = new ProductActivatedEvent(productId);
+        ProductDeactivatedEvent deactivated = new ProductDeactivatedEvent(productId);
+        ProductDiscontinuedEvent discontinued = new ProductDiscontinuedEvent(productId);
+
+        // Act
+        ProductActivatedEvent readActivated = objectMapper.readValue(objectMapper.writeValueAsString(activated), ProductActivatedEvent.class);
+        ProductDeactivatedEvent readDeactivated = objectMapper.readValue(objectMapper.writeValueAsString(deactivated), ProductDeactivatedEvent.class);
+        ProductDiscontinuedEvent readDiscontinued = objectMapper.readValue(objectMapper.writeValueAsString(discontinued), ProductDiscontinuedEvent.class);
+
+        // Assert
+        assertEquals(activated.getId(), readActivated.getId());
+        assertEquals(activated.getOccurredOn(), readActivated.getOccurredOn());
+        assertEquals(productId, readActivated.getProductId());
+        assertEquals(deactivated.getId(), readDeactivated.getId());
+        assertEquals(productId, readDeactivated.getProductId());
+        assertEquals(discontinued.getId(), readDiscontinued.getId());
+        assertEquals(productId, readDiscontinued.getProductId());
+    }
+
+    @Test
+    void shouldReadEventFromRawJsonMessageBody() throws JsonProcessingException {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+        String json = "{\"id\":\"" + id + "\",\"occurredOn\":\"2026-10-18T10:15:30\","
+                + "\"productId\":{\"uuid\":\"" + productId + "\"}}";
+
+        // Act
+        ProductActivatedEvent event = objectMapper.readValue(json, ProductActivatedEvent.class);
+
+        // Assert
+        assertEquals(id, event.getId());
+        assertEquals(new ProductId(productId), event.getProductId());
+    }
+}
@@ -1,19 +1,26 @@
 package com.codingbetter.infrastructure.messaging;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 
 import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
 import com.codingbetter.domain.catalog.product.model.ProductId;
@@ -27,7 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class RabbitMQDomainEventPublisherTest {
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private RabbitMQPublishingPipeline publishingPipeline;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -42,7 +49,7 @@ class RabbitMQDomainEventPublisherTest {
 
     @BeforeEach
     void setUp() {
-        publisher = new RabbitMQDomainEventPublisher(rabbitTemplate, objectMapper, routingStrategyFactory);
+        publisher = new RabbitMQDomainEventPublisher(publishingPipeline, objectMapper, routingStrategyFactory, true);
     }
 
     @Test
@@ -50,9 +57,9 @@ class RabbitMQDomainEventPublisherTest {
         // Arrange
         ProductId productId = new ProductId(UUID.randomUUID());
         ProductActivatedEvent event = new ProductActivatedEvent(productId);
-        String serializedEvent = "{\"productId\":\"" + productId.getUuid() + "\"}";
+        byte[] serializedEvent = ("{\"productId\":\"" + productId.getUuid() + "\"}").getBytes(StandardCharsets.UTF_8);
         
-        when(objectMapper.writeValueAsString(any(ProductActivatedEvent.class))).thenReturn(serializedEvent);
+        when(objectMapper.writeValueAsBytes(any(ProductActivatedEvent.class))).thenReturn(serializedEvent);
         when(routingStrategyFactory.getStrategy(event)).thenReturn(routingStrategy);
         when(routingStrategy.getRoutingKey(event)).thenReturn(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY);
         
@@ -60,12 +67,43 @@ class RabbitMQDomainEventPublisherTest {
         publisher.publish(event);
         
         // Assert
-        verify(objectMapper, times(1)).writeValueAsString(event);
+        verify(objectMapper, times(1)).writeValueAsBytes(event);
+        verify(objectMapper, never()).writeValueAsString(any());
         verify(routingStrategyFactory, times(1)).getStrategy(event);
         verify(routingStrategy, times(1)).getRoutingKey(event);
-        verify(rabbitTemplate, times(1)).convertAndSend(
-                eq(ProductRabbitMQConfig.EXCHANGE_NAME),
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(publishingPipeline, times(1)).submit(
+                eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY),
+                message.capture(),
+                eq(event.getId().toString()),
+                eq(productId.getUuid().toString()));
+        Message sent = assertInstanceOf(Message.class, message.getValue());
+        assertArrayEquals(serializedEvent, sent.getBody());
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, sent.getMessageProperties().getContentType());
+        assertEquals("UTF-8", sent.getMessageProperties().getContentEncoding());
+        assertEquals(event.getId().toString(), sent.getMessageProperties().getMessageId());
+    }
+
+    @Test
+    void shouldPublishJsonStringWhenRawJsonIsDisabled() throws JsonProcessingException {
+        // Arrange
+        publisher = new RabbitMQDomainEventPublisher(publishingPipeline, objectMapper, routingStrategyFactory, false);
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductActivatedEvent event = new ProductActivatedEvent(productId);
+        String serializedEvent = "{\"productId\":\"" + productId.getUuid() + "\"}";
+        
+        when(objectMapper.writeValueAsString(any(ProductActivatedEvent.class))).thenReturn(serializedEvent);
+        when(routingStrategyFactory.getStrategy(event)).thenReturn(routingStrategy);
+        when(routingStrategy.getRoutingKey(event)).thenReturn(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY);
+        
+        // Act
+        publisher.publish(event);
+        
+        // Assert
+        verify(publishingPipeline, times(1)).submit(
                 eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY),
-                eq(serializedEvent));
+                eq(serializedEvent),
+                eq(event.getId().toString()),
+                eq(productId.getUuid().toString()));
     }
-} 
\ No newline at end of file
+}
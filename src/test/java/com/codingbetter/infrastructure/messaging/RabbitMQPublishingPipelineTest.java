@@ -0,0 +1,217 @@
+package com.codingbetter.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitMQPublishingPipelineTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations channelOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RabbitMQPublishingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new RabbitMQPublishingPipeline(rabbitTemplate, meterRegistry, 2, 10, 2, Duration.ofMillis(10), Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldCompleteWhenBrokerConfirms() throws Exception {
+        // Arrange
+        answerWithConfirms(true);
+        RabbitMQPublishingPipeline.OutgoingMessage message = message("event-1");
+
+        // Act
+        pipeline.send(List.of(message));
+
+        // Assert
+        assertTrue(message.confirmed().isDone());
+        message.confirmed().get();
+        assertEquals(0, pipeline.inFlight());
+    }
+
+    @Test
+    void shouldRetryNackedMessageUntilAttemptsAreExhausted() {
+        // Arrange
+        answerWithConfirms(false);
+        RabbitMQPublishingPipeline.OutgoingMessage message = message("event-1");
+
+        // Act
+        pipeline.send(List.of(message));
+
+        // Assert
+        assertThrows(ExecutionException.class, message.confirmed()::get);
+        verify(channelOperations, times(2)).convertAndSend(eq(ProductRabbitMQConfig.EXCHANGE_NAME),
+                eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), eq((Object) "{}"), any(CorrelationData.class));
+        assertEquals(1.0, meterRegistry.counter("product.publisher.retries").count());
+        assertEquals(1.0, meterRegistry.counter("product.publisher.failures").count());
+    }
+
+    @Test
+    void shouldFailMessageWhenConfirmDoesNotArriveInTime() {
+        // Arrange
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(channelOperations);
+        });
+        RabbitMQPublishingPipeline.OutgoingMessage message = message("event-1");
+
+        // Act
+        pipeline.send(List.of(message));
+
+        // Assert
+        assertThrows(ExecutionException.class, message.confirmed()::get);
+        assertEquals(0, pipeline.inFlight());
+        assertEquals(1.0, meterRegistry.counter("product.publisher.failures").count());
+    }
+
+    @Test
+    void shouldResendLaterMessagesOfProductAfterUnconfirmedOne() throws Exception {
+        // Arrange
+        List<String> sent = answerWithConfirmsNacking("first", 1);
+        RabbitMQPublishingPipeline.OutgoingMessage first = message("first", "product-1");
+        RabbitMQPublishingPipeline.OutgoingMessage later = message("later", "product-1");
+        RabbitMQPublishingPipeline.OutgoingMessage other = message("other", "product-2");
+
+        // Act
+        pipeline.send(List.of(first, later, other));
+
+        // Assert
+        assertEquals(List.of("first", "later", "other", "first", "later"), sent);
+        first.confirmed().get();
+        later.confirmed().get();
+        other.confirmed().get();
+        assertEquals(0, pipeline.inFlight());
+    }
+
+    @Test
+    void shouldFailLaterMessagesOfProductWithUnconfirmedOne() throws Exception {
+        // Arrange
+        List<String> sent = answerWithConfirmsNacking("first", Integer.MAX_VALUE);
+        RabbitMQPublishingPipeline.OutgoingMessage first = message("first", "product-1");
+        RabbitMQPublishingPipeline.OutgoingMessage later = message("later", "product-1");
+        RabbitMQPublishingPipeline.OutgoingMessage other = message("other", "product-2");
+
+        // Act
+        pipeline.send(List.of(first, later, other));
+
+        // Assert
+        assertEquals(List.of("first", "later", "other", "first", "later"), sent);
+        assertThrows(ExecutionException.class, first.confirmed()::get);
+        assertThrows(ExecutionException.class, later.confirmed()::get);
+        other.confirmed().get();
+        assertEquals(2.0, meterRegistry.counter("product.publisher.failures").count());
+    }
+
+    @Test
+    void shouldRejectSubmitWhenStopped() {
+        // Act & Assert
+        assertThrows(AmqpException.class,
+                () -> pipeline.submit(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", "event-1", null));
+        assertEquals(1.0, meterRegistry.counter("product.publisher.rejected").count());
+    }
+
+    @Test
+    void shouldRejectSubmitWhenBufferIsFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return null;
+        });
+        pipeline.start();
+        try {
+            pipeline.submit(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", "event-1", null);
+            assertTrue(sending.await(1, TimeUnit.SECONDS));
+            pipeline.submit(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", "event-2", null);
+            pipeline.submit(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", "event-3", null);
+
+            // Act & Assert
+            assertThrows(AmqpException.class,
+                    () -> pipeline.submit(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", "event-4", null));
+            assertEquals(1.0, meterRegistry.counter("product.publisher.rejected").count());
+        } finally {
+            release.countDown();
+            pipeline.stop();
+        }
+    }
+
+    private void answerWithConfirms(boolean ack) {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(channelOperations);
+        });
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(channelOperations).convertAndSend(eq(ProductRabbitMQConfig.EXCHANGE_NAME), any(String.class), any(Object.class), any(CorrelationData.class));
+    }
+
+    /**
+     * Acks every message except the first nacks of the given one.
+     *
+     * @return The ids of the sent messages, in sending order
+     */
+    private List<String> answerWithConfirmsNacking(String nackedId, int nacks) {
+        List<String> sent = new ArrayList<>();
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(channelOperations);
+        });
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            sent.add(correlationData.getId());
+            boolean ack = !nackedId.equals(correlationData.getId())
+                    || Collections.frequency(sent, nackedId) > nacks;
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(channelOperations).convertAndSend(eq(ProductRabbitMQConfig.EXCHANGE_NAME), any(String.class), any(Object.class), any(CorrelationData.class));
+        return sent;
+    }
+
+    private static RabbitMQPublishingPipeline.OutgoingMessage message(String messageId) {
+        return message(messageId, null);
+    }
+
+    private static RabbitMQPublishingPipeline.OutgoingMessage message(String messageId, String orderingKey) {
+        return new RabbitMQPublishingPipeline.OutgoingMessage(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, "{}", messageId, orderingKey);
+    }
+}
@@ -0,0 +1,129 @@
+package com.codingbetter.infrastructure.messaging.deadletter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+import com.rabbitmq.client.Channel;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterRouterTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private Channel channel;
+
+    private DeadLetterRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new DeadLetterRouter(rabbitTemplate, 3, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldSendFirstFailureToFirstRetryQueue() throws Exception {
+        // Arrange
+        Message message = deadLettered(null);
+        String retryQueue = ProductRabbitMQConfig.retryQueue(ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE, 1);
+        answerWithConfirm(retryQueue, true);
+
+        // Act
+        router.route(message, channel, 7L);
+
+        // Assert
+        verify(rabbitTemplate).send(eq(""), eq(retryQueue), eq(message), any(CorrelationData.class));
+        verify(channel).basicAck(7L, false);
+        assertEquals(1, (Integer) message.getMessageProperties().getHeader(DeadLetterRouter.RETRY_COUNT_HEADER));
+    }
+
+    @Test
+    void shouldParkMessageWhenRetriesAreExhausted() throws Exception {
+        // Arrange
+        Message message = deadLettered(3);
+        String parkingLot = ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE + ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX;
+        answerWithConfirm(parkingLot, true);
+
+        // Act
+        router.route(message, channel, 7L);
+
+        // Assert
+        verify(rabbitTemplate).send(eq(""), eq(parkingLot), eq(message), any(CorrelationData.class));
+        verify(channel).basicAck(7L, false);
+    }
+
+    @Test
+    void shouldParkMessageRejectedByPricePartition() throws Exception {
+        // Arrange
+        String partition = ProductRabbitMQConfig.pricePartitionQueue(2);
+        Message message = deadLettered(null);
+        message.getMessageProperties().setReceivedRoutingKey(partition);
+        answerWithConfirm(partition + ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX, true);
+
+        // Act
+        router.route(message, channel, 7L);
+
+        // Assert
+        verify(rabbitTemplate).send(eq(""), eq(partition + ProductRabbitMQConfig.PARKING_LOT_QUEUE_SUFFIX), eq(message), any(CorrelationData.class));
+        verify(channel).basicAck(7L, false);
+    }
+
+    @Test
+    void shouldRequeueMessageWhenCopyIsNacked() throws Exception {
+        // Arrange
+        Message message = deadLettered(null);
+        answerWithConfirm(ProductRabbitMQConfig.retryQueue(ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE, 1), false);
+
+        // Act & Assert
+        assertThrows(AmqpException.class, () -> router.route(message, channel, 7L));
+        verify(channel).basicNack(7L, false, true);
+        verify(channel, never()).basicAck(7L, false);
+    }
+
+    @Test
+    void shouldRequeueMessageWhenConfirmTimesOut() throws Exception {
+        // Arrange
+        Message message = deadLettered(null);
+
+        // Act & Assert
+        assertThrows(AmqpException.class, () -> router.route(message, channel, 7L));
+        verify(channel).basicNack(7L, false, true);
+        verify(channel, never()).basicAck(7L, false);
+    }
+
+    private void answerWithConfirm(String queue, boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq(""), eq(queue), any(Message.class), any(CorrelationData.class));
+    }
+
+    private static Message deadLettered(Integer retryCount) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey(ProductRabbitMQConfig.PRODUCT_ACTIVATED_QUEUE);
+        if (retryCount != null) {
+            properties.setHeader(DeadLetterRouter.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}
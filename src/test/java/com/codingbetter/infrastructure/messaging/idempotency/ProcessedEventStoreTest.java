@@ -0,0 +1,96 @@
+package com.codingbetter.infrastructure.messaging.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.config.JacksonConfig;
+import com.codingbetter.infrastructure.persistence.entity.ProcessedEventEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventStoreTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProcessedEventStore(mongoTemplate);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ProcessedEventEntity.class)).thenReturn(bulkOperations);
+        when(bulkOperations.upsert(any(Query.class), any(Update.class))).thenReturn(bulkOperations);
+    }
+
+    @Test
+    void shouldDropEventsAlreadyRecordedInsteadOfFailing() {
+        // Arrange
+        ProductActivatedEvent recorded = new ProductActivatedEvent(new ProductId(UUID.randomUUID()));
+        ProductActivatedEvent claimed = new ProductActivatedEvent(new ProductId(UUID.randomUUID()));
+        BulkWriteResult result = result(new BulkWriteUpsert(1, new BsonString(claimed.getId().toString())));
+        when(bulkOperations.execute()).thenReturn(result);
+
+        // Act
+        List<ProductActivatedEvent> events = store.claim(List.of(recorded, claimed));
+
+        // Assert
+        assertEquals(List.of(claimed), events);
+    }
+
+    @Test
+    void shouldSkipRedeliveredPayload() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        byte[] payload = objectMapper.writeValueAsBytes(new ProductActivatedEvent(new ProductId(UUID.randomUUID())));
+        ProductActivatedEvent delivery = objectMapper.readValue(payload, ProductActivatedEvent.class);
+        ProductActivatedEvent redelivery = objectMapper.readValue(payload, ProductActivatedEvent.class);
+        BulkWriteResult inserted = result(new BulkWriteUpsert(0, new BsonString(delivery.getId().toString())));
+        BulkWriteResult matched = result();
+        when(bulkOperations.execute()).thenReturn(inserted).thenReturn(matched);
+
+        // Act
+        boolean first = store.claim(delivery);
+        boolean second = store.claim(redelivery);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        ArgumentCaptor<Query> claims = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(2)).upsert(claims.capture(), any(Update.class));
+        assertEquals(claims.getAllValues().get(0).getQueryObject(), claims.getAllValues().get(1).getQueryObject());
+    }
+
+    private static BulkWriteResult result(BulkWriteUpsert... upserts) {
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getUpserts()).thenReturn(List.of(upserts));
+        return result;
+    }
+}
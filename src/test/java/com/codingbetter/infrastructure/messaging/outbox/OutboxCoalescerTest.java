@@ -0,0 +1,109 @@
+package com.codingbetter.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.infrastructure.messaging.outbox.OutboxCoalescer.Outgoing;
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class OutboxCoalescerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutboxCoalescer coalescer = new OutboxCoalescer(objectMapper, true, Duration.ofMillis(300));
+
+    @Test
+    void shouldMergePriceChangesWithinWindow() throws Exception {
+        // Arrange
+        List<OutboxMessageEntity> messages = List.of(
+                priceChange("p1", "a", 1000, 10, 11),
+                priceChange("p1", "b", 900, 11, 12),
+                priceChange("p1", "c", 800, 12, 13));
+
+        // Act
+        List<Outgoing> outgoing = coalescer.coalesce(messages, NOW);
+
+        // Assert
+        assertEquals(1, outgoing.size());
+        Outgoing merged = outgoing.get(0);
+        assertEquals(List.of("a", "b", "c"), merged.ids());
+        assertEquals("c", merged.id());
+        JsonNode payload = objectMapper.readTree(merged.payload());
+        assertEquals(10, payload.get("oldPrice").asInt());
+        assertEquals(13, payload.get("newPrice").asInt());
+    }
+
+    @Test
+    void shouldHoldBackProductUntilWindowElapses() {
+        // Arrange
+        List<OutboxMessageEntity> messages = List.of(
+                priceChange("p1", "a", 100, 10, 11),
+                activated("p1", "b", 50),
+                priceChange("p2", "c", 1000, 20, 21));
+
+        // Act
+        List<Outgoing> outgoing = coalescer.coalesce(messages, NOW);
+
+        // Assert
+        assertEquals(List.of("c"), outgoing.stream().map(Outgoing::id).toList());
+    }
+
+    @Test
+    void shouldNotMergeAcrossOtherEventsOfTheProduct() {
+        // Arrange
+        List<OutboxMessageEntity> messages = List.of(
+                priceChange("p1", "a", 1000, 10, 11),
+                activated("p1", "b", 950),
+                priceChange("p1", "c", 900, 11, 12));
+
+        // Act
+        List<Outgoing> outgoing = coalescer.coalesce(messages, NOW);
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), outgoing.stream().map(Outgoing::id).toList());
+    }
+
+    @Test
+    void shouldRelayEveryMessageWhenDisabled() {
+        // Arrange
+        OutboxCoalescer disabled = new OutboxCoalescer(objectMapper, false, Duration.ofMillis(300));
+        List<OutboxMessageEntity> messages = List.of(
+                priceChange("p1", "a", 10, 10, 11),
+                priceChange("p1", "b", 5, 11, 12));
+
+        // Act
+        List<Outgoing> outgoing = disabled.coalesce(messages, NOW);
+
+        // Assert
+        assertEquals(List.of("a", "b"), outgoing.stream().map(Outgoing::id).toList());
+    }
+
+    private static OutboxMessageEntity priceChange(String productId, String id, long millisAgo, int oldPrice, int newPrice) {
+        return message(productId, id, millisAgo, ProductPriceChangedEvent.class,
+                "{\"id\":\"" + id + "\",\"oldPrice\":" + oldPrice + ",\"newPrice\":" + newPrice + "}");
+    }
+
+    private static OutboxMessageEntity activated(String productId, String id, long millisAgo) {
+        return message(productId, id, millisAgo, ProductActivatedEvent.class, "{\"id\":\"" + id + "\"}");
+    }
+
+    private static OutboxMessageEntity message(String productId, String id, long millisAgo, Class<?> eventType, String payload) {
+        return OutboxMessageEntity.builder()
+                .id(id)
+                .eventType(eventType.getName())
+                .aggregateId(productId)
+                .payload(payload)
+                .createdAt(NOW.minusMillis(millisAgo))
+                .build();
+    }
+}
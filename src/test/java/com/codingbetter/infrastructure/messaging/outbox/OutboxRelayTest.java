@@ -0,0 +1,121 @@
+package com.codingbetter.infrastructure.messaging.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+import com.codingbetter.infrastructure.messaging.RabbitMQPublishingPipeline;
+import com.codingbetter.infrastructure.persistence.entity.OutboxMessageEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RabbitMQPublishingPipeline publishingPipeline;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(mongoTemplate, publishingPipeline, new OutboxCoalescer(new ObjectMapper(), false, Duration.ZERO), 10, Duration.ofMillis(100), Duration.ofSeconds(30), true);
+    }
+
+    @Test
+    void shouldRemoveOnlyConfirmedMessages() {
+        // Arrange
+        OutboxMessageEntity acked = message("acked");
+        OutboxMessageEntity nacked = message("nacked");
+        when(mongoTemplate.find(any(Query.class), eq(OutboxMessageEntity.class))).thenReturn(List.of(acked, nacked));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("acked"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("nacked"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new AmqpException("nacked")));
+
+        // Act
+        int relayed = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, relayed);
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(OutboxMessageEntity.class));
+        assertEquals(List.of("acked"), removed.getValue().getQueryObject().get("id", Document.class).get("$in"));
+    }
+
+    @Test
+    void shouldKeepMessagesWhenConfirmTimesOut() {
+        // Arrange
+        when(mongoTemplate.find(any(Query.class), eq(OutboxMessageEntity.class))).thenReturn(List.of(message("pending")));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("pending"), any()))
+                .thenReturn(new CompletableFuture<>());
+
+        // Act
+        int relayed = relay.relayBatch();
+
+        // Assert
+        assertEquals(0, relayed);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(OutboxMessageEntity.class));
+    }
+
+    @Test
+    void shouldKeepLaterMessagesOfProductAfterUnconfirmedOne() {
+        // Arrange
+        OutboxMessageEntity nacked = message("nacked", "product-1");
+        OutboxMessageEntity later = message("later", "product-1");
+        OutboxMessageEntity other = message("other", "product-2");
+        when(mongoTemplate.find(any(Query.class), eq(OutboxMessageEntity.class))).thenReturn(List.of(nacked, later, other));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("nacked"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new AmqpException("nacked")));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("later"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(publishingPipeline.submit(eq(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY), any(Message.class), eq("other"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        int relayed = relay.relayBatch();
+
+        // Assert
+        assertEquals(1, relayed);
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(OutboxMessageEntity.class));
+        assertEquals(List.of("other"), removed.getValue().getQueryObject().get("id", Document.class).get("$in"));
+    }
+
+    private static OutboxMessageEntity message(String id) {
+        return message(id, null);
+    }
+
+    private static OutboxMessageEntity message(String id, String aggregateId) {
+        return OutboxMessageEntity.builder()
+                .id(id)
+                .aggregateId(aggregateId)
+                .routingKey(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY)
+                .payload("{}")
+                .createdAt(Instant.now())
+                .build();
+    }
+}
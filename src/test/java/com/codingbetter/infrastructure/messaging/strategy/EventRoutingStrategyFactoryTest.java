@@ -0,0 +1,61 @@
+package com.codingbetter.infrastructure.messaging.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.codingbetter.domain.catalog.product.event.ProductActivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDeactivatedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductDiscontinuedEvent;
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+
+class EventRoutingStrategyFactoryTest {
+
+    private final List<EventRoutingStrategy> strategies = List.of(
+            new ProductActivatedEventRoutingStrategy(),
+            new ProductDeactivatedEventRoutingStrategy(),
+            new ProductDiscontinuedEventRoutingStrategy(),
+            new ProductPriceChangedEventRoutingStrategy(0));
+
+    @Test
+    void shouldRouteEveryDomainEventFoundOnTheClasspath() {
+        // Arrange
+        EventRoutingStrategyFactory factory = new EventRoutingStrategyFactory(strategies);
+        ProductActivatedEvent event = new ProductActivatedEvent(new ProductId(UUID.randomUUID()));
+
+        // Act
+        EventRoutingStrategy strategy = factory.getStrategy(event);
+
+        // Assert
+        assertSame(strategies.get(0), strategy);
+        assertEquals(ProductRabbitMQConfig.PRODUCT_ACTIVATED_ROUTING_KEY, strategy.getRoutingKey(event));
+    }
+
+    @Test
+    void shouldFailAtStartupWhenADomainEventHasNoStrategy() {
+        // Arrange
+        List<EventRoutingStrategy> incomplete = strategies.subList(0, 3);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new EventRoutingStrategyFactory(incomplete, List.of(ProductActivatedEvent.class, ProductPriceChangedEvent.class)));
+        assertEquals("No routing strategy found for domain events: [" + ProductPriceChangedEvent.class.getName() + "]", exception.getMessage());
+    }
+
+    @Test
+    void shouldFailAtStartupWhenTwoStrategiesHandleTheSameEvent() {
+        // Arrange
+        List<EventRoutingStrategy> duplicated = List.of(new ProductDeactivatedEventRoutingStrategy(), new ProductDeactivatedEventRoutingStrategy());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> new EventRoutingStrategyFactory(duplicated, List.of(ProductDeactivatedEvent.class, ProductDiscontinuedEvent.class)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.codingbetter.infrastructure.messaging.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.codingbetter.domain.catalog.product.event.ProductPriceChangedEvent;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.config.ProductRabbitMQConfig;
+
+class ProductPriceChangedEventRoutingStrategyTest {
+
+    @Test
+    void shouldSpreadProductsEvenlyOverPartitions() {
+        // Arrange
+        int partitions = 8;
+        int[] counts = new int[partitions];
+
+        // Act
+        for (int i = 0; i < 80_000; i++) {
+            counts[ProductPriceChangedEventRoutingStrategy.partition(new ProductId(UUID.randomUUID()), partitions)]++;
+        }
+
+        // Assert
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "Partition count: " + count);
+        }
+    }
+
+    @Test
+    void shouldOnlyMoveProductsToNewPartitionWhenGrowing() {
+        for (int i = 0; i < 10_000; i++) {
+            // Arrange
+            ProductId productId = new ProductId(UUID.randomUUID());
+
+            // Act
+            int before = ProductPriceChangedEventRoutingStrategy.partition(productId, 4);
+            int after = ProductPriceChangedEventRoutingStrategy.partition(productId, 5);
+
+            // Assert
+            assertTrue(after == before || after == 4);
+        }
+    }
+
+    @Test
+    void shouldRouteToPartitionOfProduct() {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductPriceChangedEvent event = new ProductPriceChangedEvent(productId, null, null);
+
+        // Act
+        String partitioned = new ProductPriceChangedEventRoutingStrategy(4).getRoutingKey(event);
+        String unpartitioned = new ProductPriceChangedEventRoutingStrategy(0).getRoutingKey(event);
+
+        // Assert
+        assertEquals(ProductRabbitMQConfig.pricePartitionRoutingKey(ProductPriceChangedEventRoutingStrategy.partition(productId, 4)), partitioned);
+        assertEquals(ProductRabbitMQConfig.PRODUCT_PRICE_CHANGED_ROUTING_KEY, unpartitioned);
+    }
+}
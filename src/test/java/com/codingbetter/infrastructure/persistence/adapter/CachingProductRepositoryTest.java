@@ -0,0 +1,150 @@
+package com.codingbetter.infrastructure.persistence.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codingbetter.domain.catalog.product.exception.ProductConcurrentModificationException;
+import com.codingbetter.domain.catalog.product.model.Product;
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.infrastructure.messaging.cache.ProductCacheInvalidationPublisher;
+import com.codingbetter.infrastructure.persistence.entity.ProductEntity;
+import com.codingbetter.infrastructure.persistence.mapper.InfraProductMapper;
+
+@ExtendWith(MockitoExtension.class)
+class CachingProductRepositoryTest {
+
+    @Mock
+    private ProductRepositoryAdapter delegate;
+
+    @Mock
+    private InfraProductMapper productMapper;
+
+    @Mock
+    private ProductCacheInvalidationPublisher invalidationPublisher;
+
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductRepository(delegate, productMapper, invalidationPublisher, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldHitDatabaseOnlyOnceForRepeatedLookups() {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductEntity entity = new ProductEntity();
+        Product product = mock(Product.class);
+        when(delegate.findEntityById(productId)).thenReturn(Optional.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(product);
+
+        // Act
+        Optional<Product> first = repository.findById(productId);
+        Optional<Product> second = repository.findById(productId);
+
+        // Assert
+        assertSame(product, first.orElseThrow());
+        assertSame(product, second.orElseThrow());
+        verify(delegate, times(1)).findEntityById(productId);
+        verify(productMapper, times(2)).toDomain(entity);
+    }
+
+    @Test
+    void shouldEvictAndBroadcastOnSave() {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductEntity entity = new ProductEntity();
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(productId);
+        when(delegate.findEntityById(productId)).thenReturn(Optional.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(product);
+
+        // Act
+        repository.findById(productId);
+        repository.save(product);
+        repository.findById(productId);
+
+        // Assert
+        verify(delegate, times(1)).save(product);
+        verify(invalidationPublisher, times(1)).broadcast(productId);
+        verify(delegate, times(2)).findEntityById(productId);
+    }
+
+    @Test
+    void shouldEvictWithoutBroadcastWhenSaveConflicts() {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductEntity entity = new ProductEntity();
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(productId);
+        when(delegate.findEntityById(productId)).thenReturn(Optional.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(product);
+        doThrow(new ProductConcurrentModificationException("conflict")).when(delegate).save(product);
+
+        // Act
+        repository.findById(productId);
+        assertThrows(ProductConcurrentModificationException.class, () -> repository.save(product));
+        repository.findById(productId);
+
+        // Assert
+        verify(invalidationPublisher, never()).broadcast(productId);
+        verify(delegate, times(2)).findEntityById(productId);
+    }
+
+    @Test
+    void shouldServeIndexedSkuLookupsFromCache() {
+        // Arrange
+        String sku = "NIKSHRTLGBLU001351";
+        ProductId productId = new ProductId(UUID.randomUUID());
+        ProductEntity entity = new ProductEntity();
+        Product product = mock(Product.class);
+        when(delegate.findEntityById(productId)).thenReturn(Optional.of(entity));
+        when(productMapper.toDomain(entity)).thenReturn(product);
+        when(delegate.findEntityBySku(eq(sku), any())).thenAnswer(invocation ->
+                invocation.<Function<ProductId, Optional<ProductEntity>>>getArgument(1).apply(productId));
+
+        // Act
+        repository.findById(productId);
+        Optional<Product> found = repository.findBySku(sku);
+
+        // Assert
+        assertSame(product, found.orElseThrow());
+        verify(delegate, times(1)).findEntityById(productId);
+    }
+
+    @Test
+    void shouldNotCacheMissingProducts() {
+        // Arrange
+        ProductId productId = new ProductId(UUID.randomUUID());
+        when(delegate.findEntityById(productId)).thenReturn(Optional.empty());
+
+        // Act
+        boolean firstPresent = repository.findById(productId).isPresent();
+        boolean secondPresent = repository.findById(productId).isPresent();
+
+        // Assert
+        assertFalse(firstPresent);
+        assertFalse(secondPresent);
+        verify(delegate, times(2)).findEntityById(productId);
+    }
+}
@@ -0,0 +1,65 @@
+package com.codingbetter.infrastructure.persistence.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.codingbetter.domain.catalog.product.model.ProductId;
+import com.codingbetter.domain.catalog.product.model.SkuId;
+
+class SkuIndexTest {
+
+    @Test
+    void shouldResolveEveryIndexedSkuAcrossResizes() {
+        // Arrange
+        SkuIndex index = new SkuIndex();
+        List<ProductId> productIds = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            ProductId productId = new ProductId(UUID.randomUUID());
+            productIds.add(productId);
+            index.put(sku(i), productId);
+        }
+
+        // Assert
+        assertEquals(5_000, index.size());
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(productIds.get(i), index.get(sku(i)).orElseThrow());
+        }
+    }
+
+    @Test
+    void shouldMissUnknownSku() {
+        // Arrange
+        SkuIndex index = new SkuIndex();
+        index.put(new SkuId("NIKSHRTLGBLU001351"), new ProductId(UUID.randomUUID()));
+
+        // Assert
+        assertTrue(index.get(new SkuId("NIKSHRTLGBLU001352")).isEmpty());
+    }
+
+    @Test
+    void shouldReplaceProductOfSameSku() {
+        // Arrange
+        SkuIndex index = new SkuIndex();
+        ProductId replacement = new ProductId(UUID.randomUUID());
+        index.put(new SkuId("NIKSHRTLGBLU001351"), new ProductId(UUID.randomUUID()));
+
+        // Act
+        index.put(new SkuId("NIKSHRTLGBLU001351"), replacement);
+
+        // Assert
+        assertEquals(1, index.size());
+        assertEquals(replacement, index.get(new SkuId("NIKSHRTLGBLU001351")).orElseThrow());
+    }
+
+    private static SkuId sku(int i) {
+        return new SkuId(String.format("NIKSHRT%s%sBLU%06d", (char) ('A' + i % 26), (char) ('A' + i / 26 % 26), i));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
@@ -91,6 +92,31 @@ public class ProductMongoRepositoryIntegrationTest {
         Assertions.assertEquals(categoryId, products.getContent().get(0).getCategoryId());
     }
 
+    @Test
+    void testFindByIdGreaterThanOrderByIdAsc() {
+        List<ProductEntity> firstPage = productMongoRepository.findAllByOrderByIdAsc(Limit.of(2));
+        Assertions.assertEquals(2, firstPage.size());
+
+        String lastId = firstPage.get(1).getId();
+        List<ProductEntity> secondPage = productMongoRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(2));
+
+        Assertions.assertEquals(1, secondPage.size());
+        Assertions.assertTrue(secondPage.get(0).getId().compareTo(lastId) > 0);
+    }
+
+    @Test
+    void testFindByCategoryIdAndStatusOrderByIdAsc() {
+        List<ProductEntity> products = productMongoRepository.findByCategoryIdAndStatusOrderByIdAsc("eletronicos", "ACTIVE", Limit.of(10));
+
+        Assertions.assertEquals(2, products.size());
+        Assertions.assertTrue(products.get(0).getId().compareTo(products.get(1).getId()) < 0);
+
+        List<ProductEntity> afterFirst = productMongoRepository.findByCategoryIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                "eletronicos", "ACTIVE", products.get(0).getId(), Limit.of(10));
+        Assertions.assertEquals(1, afterFirst.size());
+        Assertions.assertEquals(products.get(1).getId(), afterFirst.get(0).getId());
+    }
+
     @Test
     void testDeleteProduct() {
         List<ProductEntity> products = productMongoRepository.findAll();